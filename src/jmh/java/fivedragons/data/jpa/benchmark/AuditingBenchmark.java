@@ -0,0 +1,99 @@
+package fivedragons.data.jpa.benchmark;
+
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.service.MemberService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감사 컬럼 비용 - 회원 rows 건 저장 (gc 프로파일러의 alloc.rate.norm 으로 row 당 할당량 비교)
+ * cacheAuditor=false, granularityMs=0 이 기존 동작 (엔티티마다 UUID + LocalDateTime.now())
+ * persistEach   - 엔티티마다 시각을 구함
+ * saveAllBatched - flush 단위로 시각 고정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class AuditingBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"false", "true"})
+    public boolean cacheAuditor;
+
+    @Param({"0", "10"})
+    public long granularityMs;
+
+    private JpaBenchmarkContext context;
+    private MemberService memberService;
+    private EntityManager em;
+    private JdbcTemplate jdbcTemplate;
+    private List<Member> members;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = JpaBenchmarkContext.start(
+                "audit.cache-auditor=" + cacheAuditor,
+                "audit.clock-granularity-ms=" + granularityMs);
+        memberService = context.getBean(MemberService.class);
+        em = context.getBean(EntityManager.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepare() {
+        jdbcTemplate.execute("delete from member");
+        members = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            members.add(new Member("audit" + i, i % 100));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long persistEach(StatementCounter counter) {
+        return context.inTransaction(counter, () -> {
+            long count = 0;
+            for (Member member : members) {
+                em.persist(member);
+                if (++count % BATCH_SIZE == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+            em.flush();
+            em.clear();
+            return count;
+        });
+    }
+
+    @Benchmark
+    public long saveAllBatched(StatementCounter counter) {
+        return context.inTransaction(counter, () -> memberService.saveAllBatched(members, BATCH_SIZE));
+    }
+}
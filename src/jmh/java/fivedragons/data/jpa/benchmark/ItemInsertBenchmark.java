@@ -0,0 +1,82 @@
+package fivedragons.data.jpa.benchmark;
+
+import fivedragons.data.jpa.entity.Item;
+import fivedragons.data.jpa.repository.ItemRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 직접 할당 id(Persistable) Item 대량 저장 비교
+ * saveAll(한 영속성 컨텍스트) / insertAll(batch + flush/clear) / insertIfAbsentAll(MERGE)
+ * 매 실행마다 item 테이블을 비우고 items 건을 넣는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class ItemInsertBenchmark {
+
+    @Param({"1000000"})
+    public int items;
+
+    @Param({"1000"})
+    public int batchSize;
+
+    private JpaBenchmarkContext context;
+    private ItemRepository itemRepository;
+    private JdbcTemplate jdbcTemplate;
+    private List<Item> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = JpaBenchmarkContext.start();
+        itemRepository = context.getBean(ItemRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepare() {
+        jdbcTemplate.execute("truncate table item");
+        batch = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            batch.add(new Item("I" + i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int saveAll(StatementCounter counter) {
+        // isNew 가 맞으면 select 없이 persist 되지만 영속성 컨텍스트에 1M 건이 쌓인다.
+        return context.inTransaction(counter, () -> itemRepository.saveAll(batch).size());
+    }
+
+    @Benchmark
+    public long insertAll(StatementCounter counter) {
+        return context.inTransaction(counter, () -> itemRepository.insertAll(batch, batchSize));
+    }
+
+    @Benchmark
+    public long insertIfAbsentAll(StatementCounter counter) {
+        return context.inTransaction(counter, () -> itemRepository.insertIfAbsentAll(batch, batchSize));
+    }
+}
@@ -0,0 +1,111 @@
+package fivedragons.data.jpa.benchmark;
+
+import fivedragons.data.jpa.DataJpaPracticeApplication;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.Team;
+import fivedragons.data.jpa.repository.TeamRepository;
+import fivedragons.data.jpa.service.MemberService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * JMH 벤치마크 공용 스프링 컨텍스트
+ * 인메모리 H2 로 애플리케이션을 띄우고 teams x membersPerTeam 만큼 데이터를 넣는다.
+ */
+public class JpaBenchmarkContext implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final Statistics statistics;
+
+    private JpaBenchmarkContext(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.readOnlyTransactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.statistics = context.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    public static JpaBenchmarkContext start(String... properties) {
+        List<String> merged = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "logging.level.org.hibernate.SQL=warn",
+                "logging.level.p6spy=warn",
+                "decorator.datasource.p6spy.enable-logging=false"
+        ));
+        merged.addAll(List.of(properties));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DataJpaPracticeApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(merged.toArray(String[]::new))
+                .run();
+        return new JpaBenchmarkContext(context);
+    }
+
+    public void seed(int teams, int membersPerTeam) {
+        TeamRepository teamRepository = getBean(TeamRepository.class);
+        MemberService memberService = getBean(MemberService.class);
+
+        for (int t = 0; t < teams; t++) {
+            Team team = teamRepository.save(new Team("team" + t));
+            List<Member> members = new ArrayList<>(membersPerTeam);
+            for (int m = 0; m < membersPerTeam; m++) {
+                members.add(new Member("member" + t + "_" + m, m % 100, team));
+            }
+            memberService.saveAllBatched(members, 1_000);
+        }
+    }
+
+    /**
+     * 같은 username 을 가진 회원 count 명 (한 팀)
+     */
+    public void seedMembers(String username, int count) {
+        Team team = getBean(TeamRepository.class).save(new Team(username + "Team"));
+        List<Member> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            members.add(new Member(username, i % 100, team));
+        }
+        getBean(MemberService.class).saveAllBatched(members, 1_000);
+    }
+
+    /**
+     * 트랜잭션(새 영속성 컨텍스트) 안에서 실행하고, 실행된 SQL 개수를 counter 에 더한다.
+     */
+    public <T> T inTransaction(StatementCounter counter, Supplier<T> action) {
+        return execute(transactionTemplate, counter, action);
+    }
+
+    public <T> T inReadOnlyTransaction(StatementCounter counter, Supplier<T> action) {
+        return execute(readOnlyTransactionTemplate, counter, action);
+    }
+
+    private <T> T execute(TransactionTemplate template, StatementCounter counter, Supplier<T> action) {
+        statistics.clear();
+        T result = template.execute(status -> action.get());
+        counter.add(statistics.getPrepareStatementCount());
+        return result;
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,73 @@
+package fivedragons.data.jpa.benchmark;
+
+import fivedragons.data.jpa.repository.MemberProjection;
+import fivedragons.data.jpa.repository.MemberRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 1M 건 네이티브 프로젝션 조회 (rows/sec)
+ * proxy   - @Query(nativeQuery) + 인터페이스 프로젝션 (Tuple -> Map -> 프록시)
+ * rowMapper - MemberRepositoryImpl.findNativeProjectionRows (스칼라 타입 지정 + 위치 기반 TupleTransformer)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class NativeProjectionBenchmark {
+
+    private static final int TEAMS = 100;
+    private static final int MEMBERS_PER_TEAM = 10_000;
+    private static final int ROWS = TEAMS * MEMBERS_PER_TEAM;
+
+    private JpaBenchmarkContext context;
+    private MemberRepository memberRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = JpaBenchmarkContext.start();
+        context.seed(TEAMS, MEMBERS_PER_TEAM);
+        memberRepository = context.getBean(MemberRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int proxy(StatementCounter counter) {
+        return context.inReadOnlyTransaction(counter, () ->
+                touch(memberRepository.findByNativeProjection(Pageable.unpaged())));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int rowMapper(StatementCounter counter) {
+        return context.inReadOnlyTransaction(counter, () ->
+                touch(memberRepository.findNativeProjectionRows(Pageable.unpaged())));
+    }
+
+    private int touch(Iterable<MemberProjection> rows) {
+        int count = 0;
+        for (MemberProjection row : rows) {
+            count += row.getUserName().length() + row.getTeamName().length() + (int) (long) row.getId();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,94 @@
+package fivedragons.data.jpa.benchmark;
+
+import fivedragons.data.jpa.repository.MemberRepository;
+import fivedragons.data.jpa.repository.NestedClosedProjections;
+import fivedragons.data.jpa.repository.UsernameOnly;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프록시/SpEL 프로젝션 vs 생성자 표현식 구현 클래스 프로젝션 (처리량, -prof gc 할당량)
+ * 같은 username 을 가진 회원 membersPerName 명을 조회한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProjectionBenchmark {
+
+    private static final String USERNAME = "projection";
+
+    @Param({"100"})
+    public int membersPerName;
+
+    private JpaBenchmarkContext context;
+    private MemberRepository memberRepository;
+    private ProxyProjectionRepository proxyProjectionRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = JpaBenchmarkContext.start();
+        context.seedMembers(USERNAME, membersPerName);
+        memberRepository = context.getBean(MemberRepository.class);
+        proxyProjectionRepository = context.getBean(ProxyProjectionRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int spelProxy(StatementCounter counter) {
+        return context.inTransaction(counter, () -> {
+            int length = 0;
+            for (ProxyProjectionRepository.SpelUsernameOnly o : proxyProjectionRepository.findSpelProjectionsByUsername(USERNAME)) {
+                length += o.getUsername().length();
+            }
+            return length;
+        });
+    }
+
+    @Benchmark
+    public int usernameOnlyView(StatementCounter counter) {
+        return context.inTransaction(counter, () -> {
+            int length = 0;
+            for (UsernameOnly o : memberRepository.findProjectionsByUsername(USERNAME)) {
+                length += o.getUsername().length();
+            }
+            return length;
+        });
+    }
+
+    @Benchmark
+    public int nestedProxy(StatementCounter counter) {
+        return context.inTransaction(counter, () -> {
+            int length = 0;
+            for (ProxyProjectionRepository.ProxyNestedProjections o : proxyProjectionRepository.findProxyNestedProjectionsByUsername(USERNAME)) {
+                length += o.getTeam().getName().length();
+            }
+            return length;
+        });
+    }
+
+    @Benchmark
+    public int nestedView(StatementCounter counter) {
+        return context.inTransaction(counter, () -> {
+            int length = 0;
+            for (NestedClosedProjections o : memberRepository.findNestedClosedProjectionsDtoByUsername(USERNAME)) {
+                length += o.getTeam().getName().length();
+            }
+            return length;
+        });
+    }
+}
@@ -0,0 +1,32 @@
+package fivedragons.data.jpa.benchmark;
+
+import fivedragons.data.jpa.entity.Member;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+
+/**
+ * 비교용 - 기존 방식의 프록시 기반 프로젝션 (SpEL open projection, nested closed projection)
+ * jmh 소스셋에만 있으므로 벤치마크 실행 시에만 리포지토리로 등록된다.
+ */
+public interface ProxyProjectionRepository extends Repository<Member, Long> {
+
+    List<SpelUsernameOnly> findSpelProjectionsByUsername(String username);
+
+    List<ProxyNestedProjections> findProxyNestedProjectionsByUsername(String username);
+
+    interface SpelUsernameOnly {
+        @Value("#{target.username + ' ' + target.age}")
+        String getUsername();
+    }
+
+    interface ProxyNestedProjections {
+        String getUsername();
+        TeamInfo getTeam();
+
+        interface TeamInfo {
+            String getName();
+        }
+    }
+}
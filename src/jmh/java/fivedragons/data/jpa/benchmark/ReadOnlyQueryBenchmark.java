@@ -0,0 +1,68 @@
+package fivedragons.data.jpa.benchmark;
+
+import fivedragons.data.jpa.dto.MemberDto;
+import fivedragons.data.jpa.repository.MemberRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /members2 요청 1번당 할당량 비교 (-prof gc 의 gc.alloc.rate.norm)
+ * 엔티티 조회 + MemberDto 변환(쓰기 트랜잭션) vs @ReadOnlyQuery DTO 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadOnlyQueryBenchmark {
+
+    @Param({"10"})
+    public int teams;
+
+    @Param({"100"})
+    public int membersPerTeam;
+
+    @Param({"20"})
+    public int pageSize;
+
+    private JpaBenchmarkContext context;
+    private MemberRepository memberRepository;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = JpaBenchmarkContext.start();
+        context.seed(teams, membersPerTeam);
+        memberRepository = context.getBean(MemberRepository.class);
+        pageable = PageRequest.of(1, pageSize, Sort.by("username"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<MemberDto> entityToDto(StatementCounter counter) {
+        return context.inTransaction(counter, () -> memberRepository.findAll(pageable)
+                .map(member -> new MemberDto(member.getId(), member.getUsername(),
+                        member.getTeam() == null ? null : member.getTeam().getName())));
+    }
+
+    @Benchmark
+    public Page<MemberDto> readOnlyDto(StatementCounter counter) {
+        return context.inReadOnlyTransaction(counter, () -> memberRepository.findMemberDtoPage(pageable));
+    }
+}
@@ -0,0 +1,102 @@
+package fivedragons.data.jpa.benchmark;
+
+import fivedragons.data.jpa.dto.MemberDto;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.Team;
+import fivedragons.data.jpa.repository.MemberRepository;
+import fivedragons.data.jpa.repository.TeamRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 + 팀 조회 전략 비교
+ * fetch join / entity graph / @EntityGraph findAll / 컬렉션 @BatchSize 지연 로딩 / DTO 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RepositoryQueryBenchmark {
+
+    @Param({"10"})
+    public int teams;
+
+    @Param({"100"})
+    public int membersPerTeam;
+
+    private JpaBenchmarkContext context;
+    private MemberRepository memberRepository;
+    private TeamRepository teamRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = JpaBenchmarkContext.start();
+        context.seed(teams, membersPerTeam);
+        memberRepository = context.getBean(MemberRepository.class);
+        teamRepository = context.getBean(TeamRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int fetchJoin(StatementCounter counter) {
+        return context.inTransaction(counter, () -> touchTeams(memberRepository.findMemberFetchJoin()));
+    }
+
+    @Benchmark
+    public int entityGraph(StatementCounter counter) {
+        return context.inTransaction(counter, () -> touchTeams(memberRepository.findMemberEntityGraph()));
+    }
+
+    @Benchmark
+    public int findAllEntityGraph(StatementCounter counter) {
+        return context.inTransaction(counter, () -> touchTeams(memberRepository.findAll()));
+    }
+
+    @Benchmark
+    public int lazyBatchSize(StatementCounter counter) {
+        // Team.members 의 @BatchSize(100) 로 컬렉션을 in 쿼리로 묶어서 초기화
+        return context.inTransaction(counter, () -> {
+            int count = 0;
+            for (Team team : teamRepository.findAll()) {
+                for (Member member : team.getMembers()) {
+                    count += member.getUsername().length();
+                }
+            }
+            return count;
+        });
+    }
+
+    @Benchmark
+    public int dtoProjection(StatementCounter counter) {
+        return context.inTransaction(counter, () -> {
+            int count = 0;
+            for (MemberDto dto : memberRepository.findMemberDto()) {
+                count += dto.getTeamName().length();
+            }
+            return count;
+        });
+    }
+
+    private int touchTeams(List<Member> members) {
+        int count = 0;
+        for (Member member : members) {
+            Team team = member.getTeam();
+            count += team == null ? 0 : team.getName().length();
+        }
+        return count;
+    }
+}
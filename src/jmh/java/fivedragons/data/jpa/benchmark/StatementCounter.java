@@ -0,0 +1,30 @@
+package fivedragons.data.jpa.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 벤치마크 결과에 SQL 실행 횟수를 같이 출력하기 위한 보조 카운터
+ * 호출 1번당 SQL 개수 = statements / invocations
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class StatementCounter {
+
+    public long statements;
+    public long invocations;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        statements = 0;
+        invocations = 0;
+    }
+
+    public void add(long count) {
+        statements += count;
+        invocations++;
+    }
+}
@@ -1,15 +1,23 @@
 package fivedragons.data.jpa;
 
+import fivedragons.data.jpa.audit.AuditClock;
+import fivedragons.data.jpa.audit.AuditDateTimeProvider;
+import fivedragons.data.jpa.audit.CachingAuditorAware;
+import fivedragons.data.jpa.audit.CoarseAuditClock;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
-@EnableJpaAuditing
+@EnableJpaAuditing(dateTimeProviderRef = AuditDateTimeProvider.BEAN_NAME)
 @SpringBootApplication
 public class DataJpaPracticeApplication {
 
@@ -18,7 +26,14 @@ public class DataJpaPracticeApplication {
 	}
 
 	@Bean
-	public AuditorAware<String> auditorProvider() {
-		return () -> Optional.of(UUID.randomUUID().toString());
+	public AuditorAware<String> auditorProvider(@Value("${audit.cache-auditor:true}") boolean cacheAuditor) {
+		Supplier<String> resolver = () -> UUID.randomUUID().toString();
+		// 요청/트랜잭션마다 한 번만 구한다. (false 면 엔티티마다 새로 구함)
+		return cacheAuditor ? new CachingAuditorAware(resolver) : () -> Optional.of(resolver.get());
+	}
+
+	@Bean
+	public AuditClock auditClock(@Value("${audit.clock-granularity-ms:10}") long granularityMs) {
+		return new CoarseAuditClock(Clock.systemDefaultZone(), Duration.ofMillis(granularityMs));
 	}
 }
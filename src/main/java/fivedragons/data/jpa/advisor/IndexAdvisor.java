@@ -0,0 +1,193 @@
+package fivedragons.data.jpa.advisor;
+
+import fivedragons.data.jpa.repository.MemberRepository;
+import fivedragons.data.jpa.repository.TeamRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 리포지토리 쿼리 메서드가 조건/정렬로 쓰는 컬럼을 모아 H2 EXPLAIN 으로 인덱스를 타는지 확인한다.
+ * 누락 여부는 실행 계획(전체 스캔인지)으로 판단하고, 계획에서 알 수 없으면 인덱스 컬럼 순서로 판단한다.
+ * - 메서드 이름 쿼리: PartTree 의 조건(동등 조건 먼저, 범위 조건 나중), OrderBy
+ * - @Query(JPQL): 루트 alias 의 where 조건 (단순 비교만)
+ */
+@Slf4j
+@Component
+public class IndexAdvisor {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(MemberRepository.class, TeamRepository.class);
+    private static final Pattern ROOT_ALIAS = Pattern.compile("from\\s+(\\w+)\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final String CONDITION = "\\b%s\\.(\\w+)\\s*(=|>=|<=|<>|>|<|\\bin\\b|\\blike\\b)";
+    // H2 EXPLAIN 의 접근 경로 주석 - /* PUBLIC.MEMBER.tableScan */ 또는 /* PUBLIC.IDX_MEMBER_USERNAME_ID: USERNAME = 'x' */
+    private static final Pattern PLAN_INDEX = Pattern.compile("/\\*\\s*\"?PUBLIC\"?\\.\"?(\\w+)\"?\\s*:");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SessionFactoryImplementor sessionFactory;
+
+    public IndexAdvisor(JdbcTemplate jdbcTemplate, EntityManagerFactory emf) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sessionFactory = emf.unwrap(SessionFactoryImplementor.class);
+    }
+
+    public List<IndexSuggestion> analyze() {
+        List<IndexSuggestion> result = new ArrayList<>();
+        for (Class<?> repository : REPOSITORIES) {
+            RepositoryMetadata metadata = AbstractRepositoryMetadata.getMetadata(repository);
+            AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory.getMappingMetamodel()
+                    .getEntityDescriptor(metadata.getDomainType());
+
+            for (Method method : repository.getDeclaredMethods()) {
+                List<String> columns = columns(method, metadata.getDomainType(), persister);
+                if (columns.isEmpty()) {
+                    continue;
+                }
+                result.add(explain(repository.getSimpleName() + "." + method.getName(), persister.getTableName(), columns));
+            }
+        }
+        result.sort(Comparator.comparing(IndexSuggestion::getMethod));
+        return result;
+    }
+
+    /**
+     * 누락된 인덱스를 중복 없이 생성한다.
+     */
+    public List<String> apply(List<IndexSuggestion> suggestions) {
+        Map<String, String> ddls = new LinkedHashMap<>();
+        suggestions.stream()
+                .filter(IndexSuggestion::isMissing)
+                .forEach(suggestion -> ddls.putIfAbsent(suggestion.getIndexName(), suggestion.getDdl()));
+        ddls.values().forEach(ddl -> {
+            log.info("index advisor - {}", ddl);
+            jdbcTemplate.execute(ddl);
+        });
+        return new ArrayList<>(ddls.values());
+    }
+
+    private List<String> columns(Method method, Class<?> domainType, AbstractEntityPersister persister) {
+        Set<String> equals = new LinkedHashSet<>();
+        Set<String> others = new LinkedHashSet<>();
+
+        Query query = method.getAnnotation(Query.class);
+        if (query != null) {
+            if (query.nativeQuery()) {
+                return List.of();
+            }
+            Matcher alias = ROOT_ALIAS.matcher(query.value());
+            if (!alias.find() || !alias.group(1).equals(domainType.getSimpleName())) {
+                return List.of();
+            }
+            Matcher condition = Pattern.compile(String.format(CONDITION, alias.group(2)), Pattern.CASE_INSENSITIVE)
+                    .matcher(query.value());
+            while (condition.find()) {
+                ("=".equals(condition.group(2)) ? equals : others).add(condition.group(1));
+            }
+        } else {
+            PartTree tree;
+            try {
+                tree = new PartTree(method.getName(), domainType);
+            } catch (RuntimeException e) {
+                return List.of(); // 메서드 이름 쿼리가 아님
+            }
+            for (Part part : tree.getParts()) {
+                String property = part.getProperty().getSegment();
+                (part.getType() == Part.Type.SIMPLE_PROPERTY ? equals : others).add(property);
+            }
+            for (Sort.Order order : tree.getSort()) {
+                others.add(order.getProperty());
+            }
+        }
+
+        List<String> columns = new ArrayList<>();
+        for (String property : concat(equals, others)) {
+            try {
+                for (String column : persister.getPropertyColumnNames(property)) {
+                    if (!columns.contains(column)) {
+                        columns.add(column);
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.debug("index advisor - 컬럼을 찾을 수 없는 속성 {}", property);
+            }
+        }
+        return columns;
+    }
+
+    private IndexSuggestion explain(String method, String table, List<String> columns) {
+        List<String> conditions = new ArrayList<>();
+        for (String column : columns) {
+            conditions.add(column + " = " + sampleValue(table, column));
+        }
+        String probeSql = "select * from " + table + " where " + String.join(" and ", conditions);
+        String plan = jdbcTemplate.queryForObject("explain " + probeSql, String.class);
+        Boolean indexed = usesIndex(plan, table);
+        boolean missing = indexed != null ? !indexed : !isCovered(table, columns);
+        return new IndexSuggestion(method, table, columns, probeSql, plan, missing);
+    }
+
+    /**
+     * 실행 계획이 테이블 전체 스캔이면 false, 인덱스를 쓰면 true, 계획에서 알 수 없으면 null
+     * (컬럼 순서가 달라도 옵티마이저가 쓸 수 있는 인덱스면 누락이 아니다.)
+     */
+    static Boolean usesIndex(String plan, String table) {
+        if (plan == null) {
+            return null;
+        }
+        if (plan.contains("PUBLIC." + table.toUpperCase(Locale.ROOT) + ".tableScan")) {
+            return false;
+        }
+        return PLAN_INDEX.matcher(plan).find() ? Boolean.TRUE : null;
+    }
+
+    /**
+     * 실행 계획으로 판단할 수 없을 때만 사용 - 기존 인덱스 중 앞쪽 컬럼이 후보 컬럼과 같은 것이 있는지 확인한다.
+     */
+    private boolean isCovered(String table, List<String> columns) {
+        Map<String, List<String>> indexes = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "select index_name, column_name from information_schema.index_columns " +
+                        "where table_schema = 'PUBLIC' and table_name = ? order by index_name, ordinal_position",
+                (RowCallbackHandler) rs -> indexes.computeIfAbsent(rs.getString(1), key -> new ArrayList<>())
+                        .add(rs.getString(2).toLowerCase(Locale.ROOT)),
+                table.toUpperCase(Locale.ROOT));
+
+        return indexes.values().stream()
+                .anyMatch(indexColumns -> indexColumns.size() >= columns.size()
+                        && indexColumns.subList(0, columns.size()).equals(columns));
+    }
+
+    private String sampleValue(String table, String column) {
+        String type = jdbcTemplate.queryForObject(
+                "select data_type from information_schema.columns where table_schema = 'PUBLIC' and table_name = ? and column_name = ?",
+                String.class, table.toUpperCase(Locale.ROOT), column.toUpperCase(Locale.ROOT));
+        return type != null && type.contains("CHAR") ? "'x'" : "0";
+    }
+
+    private static List<String> concat(Set<String> first, Set<String> second) {
+        List<String> result = new ArrayList<>(first);
+        second.stream().filter(value -> !result.contains(value)).forEach(result::add);
+        return result;
+    }
+}
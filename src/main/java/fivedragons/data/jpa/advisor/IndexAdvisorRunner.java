@@ -0,0 +1,41 @@
+package fivedragons.data.jpa.advisor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 시 인덱스 분석 결과 출력 (index-advisor.enabled=true)
+ * index-advisor.apply=true 이면 누락된 인덱스를 바로 생성한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "index-advisor.enabled", havingValue = "true")
+public class IndexAdvisorRunner implements ApplicationRunner {
+
+    private final IndexAdvisor indexAdvisor;
+
+    @Value("${index-advisor.apply:false}")
+    private boolean apply;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<IndexSuggestion> suggestions = indexAdvisor.analyze();
+        for (IndexSuggestion suggestion : suggestions) {
+            log.info("index advisor - {} {} -> {}", suggestion.getMethod(), suggestion.getColumns(),
+                    suggestion.isMissing() ? "MISSING: " + suggestion.getDdl() : "ok");
+            log.debug("index advisor - plan: {}", suggestion.getPlan());
+        }
+
+        if (apply) {
+            indexAdvisor.apply(suggestions);
+        }
+    }
+}
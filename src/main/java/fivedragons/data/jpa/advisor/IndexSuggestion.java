@@ -0,0 +1,38 @@
+package fivedragons.data.jpa.advisor;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 리포지토리 메서드 1개에 대한 인덱스 분석 결과
+ */
+@Getter
+@ToString
+public class IndexSuggestion {
+
+    private final String method;
+    private final String table;
+    private final List<String> columns;
+    private final String probeSql;
+    private final String plan;
+    private final boolean missing;
+
+    public IndexSuggestion(String method, String table, List<String> columns, String probeSql, String plan, boolean missing) {
+        this.method = method;
+        this.table = table;
+        this.columns = columns;
+        this.probeSql = probeSql;
+        this.plan = plan;
+        this.missing = missing;
+    }
+
+    public String getIndexName() {
+        return "idx_" + table + "_" + String.join("_", columns);
+    }
+
+    public String getDdl() {
+        return "create index " + getIndexName() + " on " + table + " (" + String.join(", ", columns) + ")";
+    }
+}
@@ -0,0 +1,203 @@
+package fivedragons.data.jpa.advisor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.core.support.RepositoryFactoryInformation;
+import org.springframework.stereotype.Component;
+
+import java.beans.Introspector;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 리포지토리 네이티브 쿼리(@Query(nativeQuery = true)) 기동 시 검증
+ * 대상은 Spring Data 가 만든 리포지토리 전체 (RepositoryFactoryInformation 빈에서 인터페이스를 찾는다)
+ * - on / using 조건 없는 join (cross join 으로 쓰지 않았는데 카티전 곱이 되는 쿼리)
+ * - 인터페이스 프로젝션 속성이 select 절 alias 에 없는 경우 (getUserName 인데 alias 가 username)
+ *   alias 는 속성 이름과 대소문자까지 같아야 한다. 드라이버의 대소문자 변환(H2 는 대문자)에 기대지 않는다.
+ * native-query.validation.fail-on-error=true(기본값) 이면 기동을 멈추고, false 면 경고만 남긴다.
+ */
+@Slf4j
+@Component
+public class NativeQueryValidator implements SmartInitializingSingleton {
+
+    private static final Pattern JOIN = Pattern.compile("\\b(?:(cross|natural)\\s+)?join\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern NEXT_CLAUSE = Pattern.compile("\\b(?:(?:left|right|inner|full|outer|cross|natural)\\s+)*join\\b|\\b(?:where|group|order|having|limit|offset|union)\\b",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern JOIN_CONDITION = Pattern.compile("\\b(?:on|using)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern SELECT_LIST = Pattern.compile("^\\s*select\\s+(?:distinct\\s+)?(.*?)\\s+from\\s", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern EXPLICIT_ALIAS = Pattern.compile(".*\\bas\\s+\"?(\\w+)\"?$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern IMPLICIT_ALIAS = Pattern.compile(".*[\\w)\"]\\s+\"?(\\w+)\"?$", Pattern.DOTALL);
+    private static final Pattern COLUMN = Pattern.compile("(?:\\w+\\.)?(\\w+)");
+
+    private final ListableBeanFactory beanFactory;
+    private final boolean failOnError;
+
+    public NativeQueryValidator(ListableBeanFactory beanFactory,
+                                @Value("${native-query.validation.fail-on-error:true}") boolean failOnError) {
+        this.beanFactory = beanFactory;
+        this.failOnError = failOnError;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<String> problems = new ArrayList<>();
+        repositoryInterfaces().forEach(repository -> problems.addAll(validate(repository)));
+        if (problems.isEmpty()) {
+            return;
+        }
+        if (failOnError) {
+            throw new IllegalStateException("native query validation failed\n" + String.join("\n", problems));
+        }
+        problems.forEach(problem -> log.warn("native query - {}", problem));
+    }
+
+    /**
+     * 리포지토리 팩토리 빈(&memberRepository 등)에서 인터페이스를 꺼낸다. 같은 엔티티의 리포지토리가 여러 개여도 모두 포함
+     */
+    List<Class<?>> repositoryInterfaces() {
+        List<Class<?>> repositories = new ArrayList<>();
+        for (String name : beanFactory.getBeanNamesForType(RepositoryFactoryInformation.class, false, false)) {
+            RepositoryFactoryInformation<?, ?> information = beanFactory.getBean(name, RepositoryFactoryInformation.class);
+            repositories.add(information.getRepositoryInformation().getRepositoryInterface());
+        }
+        return repositories;
+    }
+
+    public List<String> validate(Class<?> repository) {
+        List<String> problems = new ArrayList<>();
+        for (Method method : repository.getDeclaredMethods()) {
+            Query query = method.getAnnotation(Query.class);
+            if (query == null || !query.nativeQuery()) {
+                continue;
+            }
+
+            String name = repository.getSimpleName() + "." + method.getName();
+            checkJoins(name, query.value(), problems);
+            projectionType(method).ifPresent(projection -> checkAliases(name, query.value(), projection, problems));
+        }
+        return problems;
+    }
+
+    private void checkJoins(String name, String sql, List<String> problems) {
+        Matcher join = JOIN.matcher(sql);
+        while (join.find()) {
+            if (join.group(1) != null) {
+                continue; // cross / natural join 은 의도된 것으로 본다.
+            }
+            Matcher next = NEXT_CLAUSE.matcher(sql);
+            int end = next.find(join.end()) ? next.start() : sql.length();
+            if (!JOIN_CONDITION.matcher(sql.substring(join.end(), end)).find()) {
+                problems.add(name + " - join " + join.group(2) + " 에 on / using 조건이 없습니다.");
+            }
+        }
+    }
+
+    private void checkAliases(String name, String sql, Class<?> projection, List<String> problems) {
+        Set<String> aliases = selectAliases(sql);
+        if (aliases == null) {
+            return; // select * 또는 alias 를 알 수 없는 식 - 검사 생략
+        }
+        for (String property : properties(projection)) {
+            if (!aliases.contains(property)) {
+                problems.add(name + " - " + projection.getSimpleName() + "." + property
+                        + " 에 맞는 select alias 가 없습니다. aliases = " + aliases);
+            }
+        }
+    }
+
+    private static Set<String> selectAliases(String sql) {
+        Matcher select = SELECT_LIST.matcher(sql);
+        if (!select.find()) {
+            return null;
+        }
+
+        Set<String> aliases = new LinkedHashSet<>();
+        for (String item : splitTopLevel(select.group(1))) {
+            String alias = alias(item.trim());
+            if (alias == null) {
+                return null;
+            }
+            aliases.add(alias);
+        }
+        return aliases;
+    }
+
+    private static String alias(String item) {
+        Matcher matcher = EXPLICIT_ALIAS.matcher(item);
+        if (matcher.matches()) {
+            return matcher.group(1);
+        }
+        matcher = COLUMN.matcher(item);
+        if (matcher.matches()) {
+            return matcher.group(1);
+        }
+        matcher = IMPLICIT_ALIAS.matcher(item);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private static List<String> splitTopLevel(String selectList) {
+        List<String> items = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i < selectList.length(); i++) {
+            char c = selectList.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                items.add(selectList.substring(start, i));
+                start = i + 1;
+            }
+        }
+        items.add(selectList.substring(start));
+        return items;
+    }
+
+    /**
+     * 반환 타입(컬렉션, Page, Slice, Optional 이면 원소 타입)이 인터페이스 프로젝션이면 그 타입
+     */
+    private static Optional<Class<?>> projectionType(Method method) {
+        Type type = method.getGenericReturnType();
+        if (type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() instanceof Class<?> raw
+                && (Iterable.class.isAssignableFrom(raw) || Stream.class.isAssignableFrom(raw) || Optional.class.equals(raw))) {
+            type = parameterized.getActualTypeArguments()[0];
+        }
+        if (type instanceof Class<?> projection && projection.isInterface() && !projection.getName().startsWith("java.")) {
+            return Optional.of(projection);
+        }
+        return Optional.empty();
+    }
+
+    private static List<String> properties(Class<?> projection) {
+        List<String> properties = new ArrayList<>();
+        for (Method getter : projection.getMethods()) {
+            if (getter.getParameterCount() > 0 || getter.isDefault() || Modifier.isStatic(getter.getModifiers())
+                    || getter.isAnnotationPresent(Value.class)) {
+                continue; // open projection(@Value) 은 alias 와 1:1 이 아니다.
+            }
+            String name = getter.getName();
+            if (name.startsWith("get") && name.length() > 3) {
+                properties.add(Introspector.decapitalize(name.substring(3)));
+            } else if (name.startsWith("is") && name.length() > 2) {
+                properties.add(Introspector.decapitalize(name.substring(2)));
+            }
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,13 @@
+package fivedragons.data.jpa.audit;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 컬럼(생성/수정 시각)에 쓰는 시계
+ * 테스트에서는 고정/수동 시계로 바꿔 끼운다.
+ */
+@FunctionalInterface
+public interface AuditClock {
+
+    LocalDateTime now();
+}
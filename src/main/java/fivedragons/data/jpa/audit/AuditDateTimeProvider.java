@@ -0,0 +1,63 @@
+package fivedragons.data.jpa.audit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.Optional;
+
+/**
+ * @CreatedDate / @LastModifiedDate, JapBaseEntity 가 함께 쓰는 시각 공급자
+ * 대량 저장은 openBatch() 로 flush 단위마다 시각을 하나로 고정해서, 같은 배치의 row 는 같은 값으로 찍힌다.
+ */
+@Component(AuditDateTimeProvider.BEAN_NAME)
+@RequiredArgsConstructor
+public class AuditDateTimeProvider implements DateTimeProvider {
+
+    public static final String BEAN_NAME = "auditDateTimeProvider";
+
+    private static final ThreadLocal<LocalDateTime> BATCH_TIME = new ThreadLocal<>();
+
+    private final AuditClock clock;
+
+    public LocalDateTime now() {
+        LocalDateTime batchTime = BATCH_TIME.get();
+        return batchTime != null ? batchTime : clock.now();
+    }
+
+    @Override
+    public Optional<TemporalAccessor> getNow() {
+        return Optional.of(now());
+    }
+
+    /**
+     * 현재 스레드의 감사 시각을 고정한다. flush 할 때마다 next() 로 다음 배치 시각을 잡는다.
+     */
+    public Batch openBatch() {
+        return new Batch();
+    }
+
+    public class Batch implements AutoCloseable {
+
+        private final LocalDateTime previous = BATCH_TIME.get();
+
+        private Batch() {
+            next();
+        }
+
+        public void next() {
+            BATCH_TIME.set(clock.now());
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                BATCH_TIME.remove();
+            } else {
+                BATCH_TIME.set(previous);
+            }
+        }
+    }
+}
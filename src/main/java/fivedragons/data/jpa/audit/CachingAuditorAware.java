@@ -0,0 +1,55 @@
+package fivedragons.data.jpa.audit;
+
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 등록자/수정자를 요청(없으면 트랜잭션)마다 한 번만 구하고 재사용한다.
+ * 엔티티마다 resolver 를 호출하지 않으므로 대량 저장 시 row 당 비용이 map 조회 한 번이다.
+ */
+public class CachingAuditorAware implements AuditorAware<String> {
+
+    private static final String KEY = CachingAuditorAware.class.getName() + ".AUDITOR";
+
+    private final Supplier<String> resolver;
+
+    public CachingAuditorAware(Supplier<String> resolver) {
+        this.resolver = resolver;
+    }
+
+    @Override
+    public Optional<String> getCurrentAuditor() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            String auditor = (String) request.getAttribute(KEY, RequestAttributes.SCOPE_REQUEST);
+            if (auditor == null) {
+                auditor = resolver.get();
+                request.setAttribute(KEY, auditor, RequestAttributes.SCOPE_REQUEST);
+            }
+            return Optional.of(auditor);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            String auditor = (String) TransactionSynchronizationManager.getResource(KEY);
+            if (auditor == null) {
+                auditor = resolver.get();
+                TransactionSynchronizationManager.bindResource(KEY, auditor);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        TransactionSynchronizationManager.unbindResourceIfPossible(KEY);
+                    }
+                });
+            }
+            return Optional.of(auditor);
+        }
+
+        return Optional.of(resolver.get());
+    }
+}
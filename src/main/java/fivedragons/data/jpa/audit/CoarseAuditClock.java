@@ -0,0 +1,45 @@
+package fivedragons.data.jpa.audit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * granularity 단위로 값을 재사용하는 시계
+ * granularity 안의 호출은 같은 LocalDateTime 인스턴스를 돌려줘서 row 마다 시각 객체를 만들지 않는다.
+ * granularity 가 0 이면 매번 LocalDateTime.now(clock) 와 같다.
+ */
+public class CoarseAuditClock implements AuditClock {
+
+    private final Clock clock;
+    private final long granularityMillis;
+    private volatile Tick tick;
+
+    public CoarseAuditClock(Clock clock, Duration granularity) {
+        if (granularity.isNegative()) {
+            throw new IllegalArgumentException("granularity 는 0 이상이어야 합니다. granularity = " + granularity);
+        }
+        this.clock = clock;
+        this.granularityMillis = granularity.toMillis();
+    }
+
+    @Override
+    public LocalDateTime now() {
+        if (granularityMillis == 0) {
+            return LocalDateTime.now(clock);
+        }
+
+        long millis = clock.millis();
+        Tick current = tick;
+        if (current != null && millis >= current.millis && millis - current.millis < granularityMillis) {
+            return current.time;
+        }
+
+        LocalDateTime time = LocalDateTime.now(clock);
+        tick = new Tick(millis, time);
+        return time;
+    }
+
+    private record Tick(long millis, LocalDateTime time) {
+    }
+}
@@ -0,0 +1,195 @@
+package fivedragons.data.jpa.cache;
+
+import fivedragons.data.jpa.dto.MemberDto;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.Team;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 리포지토리 위에 두는 MemberDto 캐시 (LRU)
+ * - 페이지 캐시: /members2 에서 조립한 Page<MemberDto>
+ * - 단건 캐시: id -> MemberDto
+ * 무효화는 MemberDtoCacheListener 가 Member/Team 엔티티 이벤트를 받아서 처리한다.
+ * 무효화할 때마다 세대(generation)를 올리고, 조회 전에 읽은 세대가 바뀌었으면 조회 결과를 캐시에 넣지 않는다.
+ * (조회 ~ put 사이에 커밋, 무효화가 끝나서 이전 값이 다시 올라가는 경우 방지)
+ * 놓친 무효화가 있어도 ttl 이 지나면 다시 조회한다.
+ */
+@Component
+public class MemberDtoCache {
+
+    private final Map<Pageable, CachedPage> pages;
+    private final Map<Long, CachedMember> members;
+    // teamId -> 단건 캐시에 올라간 회원 id (팀 이름 변경 시 해당 회원만 제거)
+    private final Map<Long, Set<Long>> membersByTeam = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    // 무효화와 put 이 엇갈리지 않도록 세대 확인 + put, 세대 증가 + 제거를 이 락 안에서 한다.
+    private final Object lock = new Object();
+    private long generation;
+
+    public MemberDtoCache(@Value("${member.dto-cache.max-pages:1000}") int maxPages,
+                          @Value("${member.dto-cache.max-members:10000}") int maxMembers,
+                          @Value("${member.dto-cache.ttl-ms:60000}") long ttlMs) {
+        this.pages = lru(maxPages, (pageable, page) -> {
+        });
+        this.members = lru(maxMembers, this::unindex); // LRU 로 밀려난 회원은 팀 인덱스에서도 뺀다.
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+    }
+
+    public Page<MemberDto> getPage(Pageable pageable, Supplier<Page<MemberDto>> loader) {
+        CachedPage cached = pages.get(pageable);
+        if (cached != null && !expired(cached.expiresAt())) {
+            return cached.page();
+        }
+
+        long loadedGeneration = generation();
+        Page<MemberDto> page = loader.get();
+        synchronized (lock) {
+            if (generation == loadedGeneration) {
+                pages.put(pageable, new CachedPage(page, System.nanoTime() + ttlNanos));
+            }
+        }
+        return page;
+    }
+
+    public Optional<MemberDto> get(Long id, Function<Long, Optional<Member>> loader) {
+        CachedMember cached = members.get(id);
+        if (cached != null && !expired(cached.expiresAt())) {
+            return Optional.of(cached.dto());
+        }
+
+        long loadedGeneration = generation();
+        return loader.apply(id).map(member -> {
+            Team team = member.getTeam();
+            Long teamId = team == null ? null : team.getId();
+            MemberDto dto = new MemberDto(member.getId(), member.getUsername(), team == null ? null : team.getName());
+            synchronized (lock) {
+                if (generation == loadedGeneration) {
+                    put(id, new CachedMember(dto, teamId, System.nanoTime() + ttlNanos));
+                }
+            }
+            return dto;
+        });
+    }
+
+    /**
+     * 회원 추가 - 어느 페이지에 끼어들지 모르므로 페이지 캐시 전체 제거
+     */
+    public void memberCreated() {
+        synchronized (lock) {
+            generation++;
+            pages.clear();
+        }
+    }
+
+    /**
+     * 회원 변경/삭제 - 단건 캐시는 해당 회원만 제거
+     * 페이지는 정렬 위치가 바뀌거나 뒤 페이지가 당겨질 수 있으므로 전체 제거
+     */
+    public void memberChanged(Long memberId) {
+        synchronized (lock) {
+            generation++;
+            CachedMember removed = members.remove(memberId);
+            if (removed != null) {
+                unindex(memberId, removed);
+            }
+            pages.clear();
+        }
+    }
+
+    /**
+     * 팀 변경/삭제 - 해당 팀 회원의 단건 캐시만 제거, 페이지는 teamName 을 담고 있으므로 전체 제거
+     */
+    public void teamChanged(Long teamId) {
+        synchronized (lock) {
+            generation++;
+            Set<Long> ids = membersByTeam.remove(teamId);
+            if (ids != null) {
+                ids.forEach(members::remove);
+            }
+            pages.clear();
+        }
+    }
+
+    public void clear() {
+        synchronized (lock) {
+            generation++;
+            pages.clear();
+            members.clear();
+            membersByTeam.clear();
+        }
+    }
+
+    // 단건 캐시에 있는 회원 수 (팀 인덱스 기준)
+    int indexedMembers() {
+        return membersByTeam.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private long generation() {
+        synchronized (lock) {
+            return generation;
+        }
+    }
+
+    private boolean expired(long expiresAt) {
+        return expiresAt - System.nanoTime() < 0;
+    }
+
+    // 같은 id 가 다른 팀으로 다시 올라오면 이전 팀 인덱스에서 뺀다.
+    private void put(Long id, CachedMember cached) {
+        CachedMember previous = members.put(id, cached);
+        if (previous != null) {
+            unindex(id, previous);
+        }
+        if (cached.teamId() != null) {
+            membersByTeam.compute(cached.teamId(), (key, ids) -> {
+                Set<Long> indexed = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+                indexed.add(id);
+                return indexed;
+            });
+        }
+    }
+
+    // 빈 집합은 지워서 팀 수만큼 쌓이지 않게 한다.
+    private void unindex(Long memberId, CachedMember cached) {
+        if (cached.teamId() == null) {
+            return;
+        }
+        membersByTeam.computeIfPresent(cached.teamId(), (key, ids) -> {
+            ids.remove(memberId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static <K, V> Map<K, V> lru(int maxSize, BiConsumer<K, V> onEvict) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > maxSize) {
+                    onEvict.accept(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        });
+    }
+
+    private record CachedPage(Page<MemberDto> page, long expiresAt) {
+    }
+
+    private record CachedMember(MemberDto dto, Long teamId, long expiresAt) {
+    }
+}
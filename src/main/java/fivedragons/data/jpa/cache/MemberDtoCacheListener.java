@@ -0,0 +1,92 @@
+package fivedragons.data.jpa.cache;
+
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.Team;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Member, Team 엔티티 이벤트로 MemberDtoCache 를 무효화한다.
+ * flush 시점에 바로 지우고, 트랜잭션이 끝나면 (커밋, 롤백 모두) 변경된 대상을 한 번 더 지운다.
+ * MemberScrollCache 의 미리 읽은 창은 엔티티마다가 아니라 커밋 후 한 번만 전체 제거한다. (커밋 전에는 다른 트랜잭션에 보이지 않음)
+ * (flush ~ commit 사이에 다른 요청이 이전 값을 다시 캐시하는 경우 방지)
+ * 벌크 쿼리는 엔티티 이벤트가 발생하지 않으므로 MemberBulkService 에서 캐시를 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberDtoCacheListener {
+
+    private final MemberDtoCache memberDtoCache;
+    private final MemberScrollCache memberScrollCache;
+
+    @PostPersist
+    public void postPersist(Object entity) {
+        if (entity instanceof Member) {
+            memberDtoCache.memberCreated();
+            pending().membersCreated = true;
+        }
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void postChange(Object entity) {
+        if (entity instanceof Member member) {
+            memberDtoCache.memberChanged(member.getId());
+            pending().memberIds.add(member.getId());
+        } else if (entity instanceof Team team) {
+            memberDtoCache.teamChanged(team.getId());
+            pending().teamIds.add(team.getId());
+        }
+    }
+
+    /**
+     * 트랜잭션마다 하나만 등록해서 트랜잭션이 끝날 때 한꺼번에 처리한다. (대량 insert 시 동기화 객체가 row 수만큼 쌓이지 않게)
+     */
+    private Pending pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            memberScrollCache.clear(); // 트랜잭션 밖이면 이미 반영된 변경
+            return new Pending();
+        }
+
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Pending();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private class Pending implements TransactionSynchronization {
+
+        private boolean membersCreated;
+        private final Set<Long> memberIds = new HashSet<>();
+        private final Set<Long> teamIds = new HashSet<>();
+
+        @Override
+        public void afterCommit() {
+            memberScrollCache.clear();
+        }
+
+        /**
+         * 롤백이어도 지운다. flush 후 같은 트랜잭션에서 캐시에 올린 DTO 는 커밋되지 않은 값일 수 있다.
+         */
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(MemberDtoCacheListener.this);
+            if (membersCreated) {
+                memberDtoCache.memberCreated();
+            }
+            memberIds.forEach(memberDtoCache::memberChanged);
+            teamIds.forEach(memberDtoCache::teamChanged);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package fivedragons.data.jpa.cache;
+
+import fivedragons.data.jpa.dto.CursorPage;
+import fivedragons.data.jpa.dto.MemberDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 스크롤 커서별로 미리 읽어 둔 다음 창 (/members/scroll)
+ * - 커서(scrollId) 하나에 다음 창 하나만 둔다. 창 크기는 MemberScrollService 에서 제한하므로 커서당 메모리가 고정된다.
+ * - 마지막 접근 후 ttl 이 지난 커서(스크롤을 멈춘 클라이언트)는 다음 put 때 정리하고, maxCursors 를 넘으면 가장 오래된 커서부터 버린다.
+ * - 버린 창은 아직 조회 중이면 취소한다.
+ * 회원/팀 변경이 커밋되면 MemberDtoCacheListener 가 트랜잭션당 한 번 전체를 비운다. 커서 자체에 위치가 들어 있으므로 비워져도 다음 요청은 직접 조회로 이어진다.
+ * 비울 때마다 세대(generation)를 올린다. 조회를 시작하기 전에 읽은 세대가 put 시점과 다르면 그 사이 커밋된 변경을 놓쳤을 수 있으므로 넣지 않는다.
+ */
+@Component
+public class MemberScrollCache {
+
+    private final Map<String, Prefetched> cursors;
+    private final long ttlNanos;
+    private final AtomicLong generation = new AtomicLong();
+
+    public MemberScrollCache(@Value("${member.scroll.max-cursors:1000}") int maxCursors,
+                             @Value("${member.scroll.ttl-ms:30000}") long ttlMs) {
+        // 꺼낼 때 지우고 다시 넣으므로 삽입 순서 = 마지막 접근 순서 (만료 시각도 같은 순서)
+        this.cursors = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Prefetched> eldest) {
+                if (size() > maxCursors) {
+                    eldest.getValue().window().cancel(false);
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+    }
+
+    /**
+     * key 가 같고 만료되지 않은 창이면 꺼내서 반환 (한 번 꺼내면 캐시에서 빠진다), 없으면 null
+     */
+    public CompletableFuture<CursorPage<MemberDto>> take(String scrollId, String key) {
+        synchronized (cursors) {
+            Prefetched prefetched = cursors.remove(scrollId);
+            if (prefetched == null) {
+                return null;
+            }
+            if (prefetched.expiresAt() - System.nanoTime() < 0 || !prefetched.key().equals(key)) {
+                prefetched.window().cancel(false);
+                return null;
+            }
+            return prefetched.window();
+        }
+    }
+
+    /**
+     * 미리 읽기를 시작하기 전에 읽어 두고 put 에 넘긴다.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * @param generation 조회를 시작하기 전에 읽은 generation() - 그 사이 비워졌으면 창을 취소하고 넣지 않는다.
+     * @return 넣었으면 true
+     */
+    public boolean put(String scrollId, String key, long generation, CompletableFuture<CursorPage<MemberDto>> window) {
+        long now = System.nanoTime();
+        synchronized (cursors) {
+            if (this.generation.get() != generation) {
+                window.cancel(false);
+                return false;
+            }
+            evictExpired(now);
+            Prefetched previous = cursors.put(scrollId, new Prefetched(key, window, now + ttlNanos));
+            if (previous != null) {
+                previous.window().cancel(false);
+            }
+            return true;
+        }
+    }
+
+    public int size() {
+        synchronized (cursors) {
+            evictExpired(System.nanoTime());
+            return cursors.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (cursors) {
+            generation.incrementAndGet();
+            cursors.values().forEach(prefetched -> prefetched.window().cancel(false));
+            cursors.clear();
+        }
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Prefetched> iterator = cursors.values().iterator();
+        while (iterator.hasNext()) {
+            Prefetched prefetched = iterator.next();
+            if (prefetched.expiresAt() - now >= 0) {
+                return; // 이후 커서는 더 늦게 만료된다.
+            }
+            prefetched.window().cancel(false);
+            iterator.remove();
+        }
+    }
+
+    private record Prefetched(String key, CompletableFuture<CursorPage<MemberDto>> window, long expiresAt) {
+    }
+}
@@ -0,0 +1,155 @@
+package fivedragons.data.jpa.cache;
+
+import fivedragons.data.jpa.dto.MemberDto;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.Team;
+import fivedragons.data.jpa.repository.NestedClosedProjections;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 회원 -> 팀 이름 배치 로더 (DataLoader 방식)
+ * DTO 를 만들 때 필요한 team_id 를 먼저 모아 두고, 처음 이름이 필요해지는 시점에 모인 id 를 where team_id in (...) 한 번으로 조회한다.
+ * 조회한 이름은 요청(없으면 트랜잭션)이 끝날 때까지 재사용하므로, 여러 리포지토리 호출로 DTO 를 조립해도 팀을 row 마다 읽지 않는다.
+ * 요청/트랜잭션 밖에서는 toMemberDtos 호출 단위로만 묶는다.
+ */
+@Component
+public class TeamBatchLoader {
+
+    private static final String KEY = TeamBatchLoader.class.getName() + ".BATCH";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public List<MemberDto> toMemberDtos(Collection<Member> members) {
+        Batch batch = batch();
+        members.forEach(member -> batch.register(teamId(member)));
+        List<MemberDto> dtos = new ArrayList<>(members.size());
+        for (Member member : members) {
+            dtos.add(new MemberDto(member.getId(), member.getUsername(), nameOf(batch, teamId(member))));
+        }
+        return dtos;
+    }
+
+    public MemberDto toMemberDto(Member member) {
+        return new MemberDto(member.getId(), member.getUsername(), nameOf(batch(), teamId(member)));
+    }
+
+    /**
+     * id 만 등록하고 이름은 getName() 이 처음 호출될 때 (등록된 다른 id 와 함께) 조회한다.
+     */
+    public NestedClosedProjections.TeamInfo teamInfo(Long teamId) {
+        if (teamId == null) {
+            return null;
+        }
+        Batch batch = batch();
+        batch.register(teamId);
+        return new LoadedTeamInfo(this, batch, teamId);
+    }
+
+    public void register(Collection<Member> members) {
+        Batch batch = batch();
+        members.forEach(member -> batch.register(teamId(member)));
+    }
+
+    private String nameOf(Batch batch, Long teamId) {
+        if (teamId == null) {
+            return null;
+        }
+        if (!batch.names.containsKey(teamId)) {
+            batch.register(teamId);
+            dispatch(batch);
+        }
+        return batch.names.get(teamId);
+    }
+
+    private void dispatch(Batch batch) {
+        List<Long> ids = new ArrayList<>(batch.pending);
+        batch.pending.clear();
+        ids.forEach(id -> batch.names.put(id, null)); // 없는 팀도 다시 조회하지 않는다.
+
+        // 엔티티로 읽어서 영속성 컨텍스트에 올린다. (이후 member.getTeam() 프록시도 추가 쿼리 없이 초기화)
+        em.createQuery("select t from Team t where t.id in :ids", Team.class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(team -> batch.names.put(team.getId(), team.getName()));
+    }
+
+    // 프록시에서 id 만 꺼내므로 팀을 초기화하지 않는다.
+    private static Long teamId(Member member) {
+        Team team = member.getTeam();
+        return team == null ? null : team.getId();
+    }
+
+    private static Batch batch() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            Batch batch = (Batch) request.getAttribute(KEY, RequestAttributes.SCOPE_REQUEST);
+            if (batch == null) {
+                batch = new Batch();
+                request.setAttribute(KEY, batch, RequestAttributes.SCOPE_REQUEST);
+            }
+            return batch;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Batch batch = (Batch) TransactionSynchronizationManager.getResource(KEY);
+            if (batch == null) {
+                batch = new Batch();
+                TransactionSynchronizationManager.bindResource(KEY, batch);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        TransactionSynchronizationManager.unbindResourceIfPossible(KEY);
+                    }
+                });
+            }
+            return batch;
+        }
+
+        return new Batch();
+    }
+
+    private static class Batch {
+
+        private final Map<Long, String> names = new HashMap<>();
+        private final Set<Long> pending = new LinkedHashSet<>();
+
+        void register(Long teamId) {
+            if (teamId != null && !names.containsKey(teamId)) {
+                pending.add(teamId);
+            }
+        }
+    }
+
+    private static final class LoadedTeamInfo implements NestedClosedProjections.TeamInfo {
+
+        private final TeamBatchLoader loader;
+        private final Batch batch;
+        private final Long teamId;
+
+        private LoadedTeamInfo(TeamBatchLoader loader, Batch batch, Long teamId) {
+            this.loader = loader;
+            this.batch = batch;
+            this.teamId = teamId;
+        }
+
+        @Override
+        public String getName() {
+            return loader.nameOf(batch, teamId);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package fivedragons.data.jpa.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 조회 병렬 실행용 전용 스레드 풀
+ * 작업마다 커넥션을 하나씩 잡으므로 최대 스레드 수는 커넥션 풀 크기보다 작게 둔다.
+ * 큐가 가득 차면 바로 거절(RejectedExecutionException)해서 느린 쿼리가 쌓이지 않게 한다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String MEMBER_QUERY_EXECUTOR = "memberQueryExecutor";
+
+    @Bean(name = MEMBER_QUERY_EXECUTOR)
+    public ThreadPoolTaskExecutor memberQueryExecutor(@Value("${member.async.pool-size:4}") int poolSize,
+                                                      @Value("${member.async.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("member-query-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
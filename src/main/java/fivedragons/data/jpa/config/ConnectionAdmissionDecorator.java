@@ -0,0 +1,111 @@
+package fivedragons.data.jpa.config;
+
+import com.github.gavlyukovskiy.boot.jdbc.decorator.DataSourceDecorator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 가상 스레드 모드에서 커넥션 풀 앞단에 세마포어를 둔다.
+ * 수천 개의 가상 스레드가 한꺼번에 Hikari 에 몰리지 않도록 동시에 커넥션을 잡을 수 있는 수를 제한하고,
+ * 대기 시간을 넘기면 바로 실패시킨다.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConnectionAdmissionDecorator implements DataSourceDecorator, Ordered {
+
+    private final Semaphore permits;
+    private final long timeoutMillis;
+
+    public ConnectionAdmissionDecorator(@Value("${datasource.admission.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+                                        @Value("${datasource.admission.timeout-ms:3000}") long timeoutMillis) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public DataSource decorate(String beanName, DataSource dataSource) {
+        return new AdmissionControlledDataSource(dataSource);
+    }
+
+    @Override
+    public int getOrder() {
+        // 가장 바깥에서 감싸서 p6spy 측정 시간에 대기 시간이 섞이지 않게 한다.
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    private class AdmissionControlledDataSource extends DelegatingDataSource {
+
+        AdmissionControlledDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            acquire();
+            return admitted(super::getConnection);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            acquire();
+            return admitted(() -> super.getConnection(username, password));
+        }
+
+        private void acquire() throws SQLException {
+            try {
+                if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    throw new SQLTransientConnectionException("커넥션 획득 대기 시간 초과 - " + timeoutMillis + "ms");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("커넥션 획득 대기 중 인터럽트", e);
+            }
+        }
+
+        private Connection admitted(ConnectionSupplier supplier) throws SQLException {
+            Connection connection;
+            try {
+                connection = supplier.get();
+            } catch (SQLException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+
+            // close() 시점에 한 번만 permit 을 반납하는 프록시
+            AtomicBoolean released = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        } finally {
+                            if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                    });
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
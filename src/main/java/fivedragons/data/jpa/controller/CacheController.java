@@ -0,0 +1,39 @@
+package fivedragons.data.jpa.controller;
+
+import fivedragons.data.jpa.dto.CacheRegionStatsDto;
+import fivedragons.data.jpa.dto.QueryPlanStatsDto;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final EntityManagerFactory emf;
+
+    // 2차 캐시 리전별 hit/miss 통계
+    @GetMapping("/cache/stats")
+    public List<CacheRegionStatsDto> cacheStats() {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .map(statistics::getCacheRegionStatistics)
+                .filter(Objects::nonNull)
+                .map(CacheRegionStatsDto::new)
+                .toList();
+    }
+
+    // HQL/Criteria(Specification) -> SQL 변환 결과 캐시 통계
+    @GetMapping("/cache/query-plan")
+    public QueryPlanStatsDto queryPlanStats() {
+        return new QueryPlanStatsDto(emf.unwrap(SessionFactory.class).getStatistics());
+    }
+}
@@ -1,22 +1,58 @@
 package fivedragons.data.jpa.controller;
 
+import fivedragons.data.jpa.cache.MemberDtoCache;
+import fivedragons.data.jpa.cache.TeamBatchLoader;
+import fivedragons.data.jpa.dto.CountedPage;
+import fivedragons.data.jpa.dto.CursorPage;
 import fivedragons.data.jpa.dto.MemberDto;
+import fivedragons.data.jpa.dto.MemberSummaryDto;
 import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.Team;
+import fivedragons.data.jpa.repository.MemberCursor;
 import fivedragons.data.jpa.repository.MemberRepository;
+import fivedragons.data.jpa.repository.NestedClosedProjections;
+import fivedragons.data.jpa.repository.NestedClosedProjectionsView;
+import fivedragons.data.jpa.service.MemberAsyncService;
+import fivedragons.data.jpa.service.MemberExportService;
+import fivedragons.data.jpa.service.MemberPageService;
+import fivedragons.data.jpa.service.MemberScrollService;
+import fivedragons.data.jpa.service.MemberService;
 import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @RestController
 @RequiredArgsConstructor
 public class MemberController {
 
     private final MemberRepository memberRepository;
+    private final MemberService memberService;
+    private final MemberExportService memberExportService;
+    private final MemberAsyncService memberAsyncService;
+    private final MemberPageService memberPageService;
+    private final MemberDtoCache memberDtoCache;
+    private final TeamBatchLoader teamBatchLoader;
+    private final MemberScrollService memberScrollService;
 
     @GetMapping("/members/{id}")
     public String findMember(@PathVariable("id") Long id) {
@@ -29,21 +65,137 @@ public class MemberController {
         return member.getUsername();
     }
 
+    // total 은 캐시된 count(정확) 또는 DB 통계 추정치(estimate=true) - totalExact 로 구분
     @GetMapping("/members")
-    public Page<Member> findMember(@PageableDefault(size = 5, sort = "username") Pageable pageable) {
-        return memberRepository.findAll(pageable);
+    public CountedPage<Member> findMember(@PageableDefault(size = 5, sort = "username") Pageable pageable,
+                                          @RequestParam(value = "estimate", defaultValue = "false") boolean estimate) {
+        return memberPageService.findAll(pageable, estimate);
+    }
+
+    @GetMapping("/members/age/{age}")
+    public CountedPage<Member> findMemberByAge(@PathVariable("age") int age,
+                                               @PageableDefault(size = 5, sort = "username") Pageable pageable) {
+        return memberPageService.findByAge(age, pageable);
     }
 
     @GetMapping("/members2")
     public Page<MemberDto> findMember2(@PageableDefault(size = 5, sort = "username") Pageable pageable) {
-        return memberRepository.findAll(pageable)
-                .map(MemberDto::new);
+        return memberDtoCache.getPage(pageable, () -> memberRepository.findMemberDtoPage(pageable));
+    }
+
+    @GetMapping("/members/dto/{id}")
+    public MemberDto findMemberDto(@PathVariable("id") Long id) {
+        return memberDtoCache.get(id, memberRepository::findById)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원이 없습니다. id = " + id));
+    }
+
+    // keyset 페이징 - 깊은 페이지에서도 offset 스캔, count 쿼리가 없다. (size 는 member.keyset.max-size 까지)
+    @GetMapping("/members/keyset")
+    public CursorPage<Member> findMemberKeyset(@RequestParam(value = "cursor", required = false) String cursor,
+                                               @RequestParam(value = "size", defaultValue = "5") int size) {
+        checkKeysetRequest(cursor, size);
+        return memberRepository.findKeyset(cursor, size);
+    }
+
+    @GetMapping("/members2/keyset")
+    public CursorPage<MemberDto> findMemberKeyset2(@RequestParam(value = "cursor", required = false) String cursor,
+                                                   @RequestParam(value = "size", defaultValue = "5") int size) {
+        checkKeysetRequest(cursor, size);
+        CursorPage<Member> page = memberRepository.findKeyset(cursor, size);
+        teamBatchLoader.register(page.getContent()); // 팀은 in 쿼리 한 번
+        return page.map(teamBatchLoader::toMemberDto);
+    }
+
+    // 무한 스크롤 - 다음 창은 응답 전에 비동기로 미리 읽어 두므로 nextCursor 로 이어서 요청하면 바로 응답
+    @GetMapping("/members/scroll")
+    public CursorPage<MemberDto> scrollMembers(@RequestParam(value = "age", defaultValue = "0") int age,
+                                               @RequestParam(value = "cursor", required = false) String cursor,
+                                               @RequestParam(value = "size", defaultValue = "5") int size) {
+        try {
+            return memberScrollService.scroll(age, cursor, size);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    // 팀 정보는 응답을 직렬화하면서 처음 읽을 때 한 번에 조회
+    @GetMapping("/members/nested")
+    public List<NestedClosedProjections> findNested(@RequestParam("username") String username) {
+        return memberRepository.findListByUsername(username).stream()
+                .<NestedClosedProjections>map(member -> new NestedClosedProjectionsView(member.getUsername(),
+                        teamBatchLoader.teamInfo(member.getTeam() == null ? null : member.getTeam().getId())))
+                .toList();
+    }
+
+    // 전체 회원 export - format: ndjson(기본), csv
+    @GetMapping("/members/export")
+    public void exportMembers(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+                              HttpServletResponse response) throws IOException {
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        if ("csv".equalsIgnoreCase(format)) {
+            response.setContentType("text/csv");
+            response.setHeader("Content-Disposition", "attachment; filename=\"members.csv\"");
+            memberExportService.exportCsv(response.getWriter());
+            return;
+        }
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        memberExportService.exportNdjson(response.getWriter());
+    }
+
+    // 독립적인 조회 3개를 병렬로 실행 - 하나라도 3초 안에 끝나지 않으면 나머지를 취소하고 503
+    // @Async 는 CompletableFuture 를 supplyAsync 로 실행하므로, 취소하면 아직 memberQueryExecutor 큐에서 기다리는 작업은 시작하지 않는다.
+    // 이미 실행 중인 쿼리는 멈추지 않고 작업 트랜잭션 timeout(3초)으로 DB 에서 끊긴다.
+    @GetMapping("/members/summary")
+    public MemberSummaryDto memberSummary(@RequestParam("age") int age) {
+        CompletableFuture<Page<Member>> sameAge = memberAsyncService.findByAge(age, PageRequest.of(0, 10));
+        CompletableFuture<List<MemberDto>> members = memberAsyncService.findMemberDto();
+        CompletableFuture<List<Team>> teams = memberAsyncService.findTeams();
+
+        try {
+            CompletableFuture.allOf(sameAge, members, teams)
+                    .orTimeout(3, TimeUnit.SECONDS)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            sameAge.cancel(false);
+                            members.cancel(false);
+                            teams.cancel(false);
+                        }
+                    })
+                    .join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "회원 요약 조회 시간 초과", e);
+            }
+            throw e;
+        }
+
+        Page<Member> sameAgePage = sameAge.join();
+        return new MemberSummaryDto(
+                sameAgePage.getTotalElements(),
+                sameAgePage.map(Member::getUsername).getContent(),
+                members.join(),
+                teams.join().stream().map(Team::getName).toList());
+    }
+
+    // 잘못된 커서, size 는 400 (리포지토리에서 던지면 예외 변환을 거쳐 500 이 되므로 먼저 검사)
+    private static void checkKeysetRequest(String cursor, int size) {
+        if (size < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size 는 1 이상이어야 합니다. size = " + size);
+        }
+        try {
+            MemberCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
     }
 
     @PostConstruct
     public void init() {
+        List<Member> members = new ArrayList<>();
         for (int i = 0; i < 100 ; i++) {
-            memberRepository.save(new Member("fad" + i, i));
+            members.add(new Member("fad" + i, i));
         }
+        memberService.saveAllBatched(members, 100);
     }
 }
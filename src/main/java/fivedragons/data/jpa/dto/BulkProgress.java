@@ -0,0 +1,25 @@
+package fivedragons.data.jpa.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 청크 단위 대량 변경 진행 상황
+ * 전체 청크 수는 미리 세지 않는다. 지금까지 처리한 청크 수, 마지막 id, 변경 건수만 알린다.
+ */
+@Getter
+@ToString
+public class BulkProgress {
+
+    private final String operation;
+    private final int chunk;
+    private final long lastId;
+    private final long affected;
+
+    public BulkProgress(String operation, int chunk, long lastId, long affected) {
+        this.operation = operation;
+        this.chunk = chunk;
+        this.lastId = lastId;
+        this.affected = affected;
+    }
+}
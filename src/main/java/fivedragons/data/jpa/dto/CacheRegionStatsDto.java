@@ -0,0 +1,22 @@
+package fivedragons.data.jpa.dto;
+
+import lombok.Data;
+import org.hibernate.stat.CacheRegionStatistics;
+
+@Data
+public class CacheRegionStatsDto {
+
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private long elementCount;
+
+    public CacheRegionStatsDto(CacheRegionStatistics statistics) {
+        this.region = statistics.getRegionName();
+        this.hitCount = statistics.getHitCount();
+        this.missCount = statistics.getMissCount();
+        this.putCount = statistics.getPutCount();
+        this.elementCount = statistics.getElementCountInMemory();
+    }
+}
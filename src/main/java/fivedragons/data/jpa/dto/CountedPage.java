@@ -0,0 +1,29 @@
+package fivedragons.data.jpa.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * 페이지 응답 - totalExact 가 false 면 totalElements 는 DB 통계 기반 추정치
+ */
+@Getter
+public class CountedPage<T> {
+
+    private final List<T> content;
+    private final int number;
+    private final int size;
+    private final long totalElements;
+    private final int totalPages;
+    private final boolean totalExact;
+
+    public CountedPage(Page<T> page, boolean totalExact) {
+        this.content = page.getContent();
+        this.number = page.getNumber();
+        this.size = page.getSize();
+        this.totalElements = page.getTotalElements();
+        this.totalPages = page.getTotalPages();
+        this.totalExact = totalExact;
+    }
+}
@@ -0,0 +1,31 @@
+package fivedragons.data.jpa.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset 페이징 결과
+ * count 쿼리 없이 다음 페이지 존재 여부와 다음 커서만 내려준다.
+ */
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public CursorPage(List<T> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = content.stream()
+                .<R>map(converter)
+                .toList();
+        return new CursorPage<>(converted, nextCursor, hasNext);
+    }
+}
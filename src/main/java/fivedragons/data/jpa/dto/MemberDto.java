@@ -16,9 +16,10 @@ public class MemberDto {
         this.teamName = teamName;
     }
 
+    // 회원마다 팀을 지연 로딩한다. 목록은 TeamBatchLoader.toMemberDtos 로 팀을 한 번에 조회
     public MemberDto(Member member) {
         this.id = member.getId();
         this.username = member.getUsername();
-        this.teamName = member.getTeam().getName();
+        this.teamName = member.getTeam() == null ? null : member.getTeam().getName();
     }
 }
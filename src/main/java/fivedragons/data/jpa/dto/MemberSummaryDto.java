@@ -0,0 +1,21 @@
+package fivedragons.data.jpa.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class MemberSummaryDto {
+
+    private long sameAgeCount;
+    private List<String> sameAgeUsernames;
+    private List<MemberDto> members;
+    private List<String> teamNames;
+
+    public MemberSummaryDto(long sameAgeCount, List<String> sameAgeUsernames, List<MemberDto> members, List<String> teamNames) {
+        this.sameAgeCount = sameAgeCount;
+        this.sameAgeUsernames = sameAgeUsernames;
+        this.members = members;
+        this.teamNames = teamNames;
+    }
+}
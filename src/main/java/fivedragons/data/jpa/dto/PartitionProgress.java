@@ -0,0 +1,31 @@
+package fivedragons.data.jpa.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 파티션 단위 병렬 처리 진행 상황 (청크 커밋마다)
+ */
+@Getter
+@ToString
+public class PartitionProgress {
+
+    private final String jobName;
+    private final int partition;
+    private final int totalPartitions;
+    private final long lastId;
+    private final long endId;
+    private final long processed;
+    private final boolean completed;
+
+    public PartitionProgress(String jobName, int partition, int totalPartitions, long lastId, long endId,
+                             long processed, boolean completed) {
+        this.jobName = jobName;
+        this.partition = partition;
+        this.totalPartitions = totalPartitions;
+        this.lastId = lastId;
+        this.endId = endId;
+        this.processed = processed;
+        this.completed = completed;
+    }
+}
@@ -0,0 +1,19 @@
+package fivedragons.data.jpa.dto;
+
+import lombok.Data;
+import org.hibernate.stat.Statistics;
+
+@Data
+public class QueryPlanStatsDto {
+
+    private long hitCount;
+    private long missCount;
+    private double hitRatio;
+
+    public QueryPlanStatsDto(Statistics statistics) {
+        this.hitCount = statistics.getQueryPlanCacheHitCount();
+        this.missCount = statistics.getQueryPlanCacheMissCount();
+        long total = hitCount + missCount;
+        this.hitRatio = total == 0 ? 0 : (double) hitCount / total;
+    }
+}
@@ -7,12 +7,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import java.awt.event.ItemListener;
 import java.time.LocalDateTime;
 
 @Entity
-@EntityListeners(ItemListener.class)
+@EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 public class Item implements Persistable<String> {
@@ -27,6 +27,7 @@ public class Item implements Persistable<String> {
         this.id = id;
     }
 
+    // id 를 직접 할당하므로 createdDate 로 신규 여부를 판단한다. (save 시 select 없이 바로 persist)
     @Override
     public boolean isNew() {
         return createdDate == null;
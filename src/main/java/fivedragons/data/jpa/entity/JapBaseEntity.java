@@ -1,13 +1,13 @@
 package fivedragons.data.jpa.entity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
-import jakarta.persistence.PrePersist;
-import jakarta.persistence.PreUpdate;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 
+@EntityListeners(JapBaseEntityListener.class)
 @MappedSuperclass
 @Getter
 public class JapBaseEntity {
@@ -16,15 +16,12 @@ public class JapBaseEntity {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    @PrePersist
-    public void prePersist() {
-        LocalDateTime now = LocalDateTime.now();
+    void markCreated(LocalDateTime now) {
         createdAt = now;
         updatedAt = now;
     }
 
-    @PreUpdate
-    public void preUpdate() {
-        updatedAt = LocalDateTime.now();
+    void markUpdated(LocalDateTime now) {
+        updatedAt = now;
     }
 }
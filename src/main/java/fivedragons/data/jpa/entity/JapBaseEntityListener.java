@@ -0,0 +1,27 @@
+package fivedragons.data.jpa.entity;
+
+import fivedragons.data.jpa.audit.AuditDateTimeProvider;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JapBaseEntity 의 createdAt / updatedAt 을 AuditDateTimeProvider 시각으로 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JapBaseEntityListener {
+
+    private final AuditDateTimeProvider dateTimeProvider;
+
+    @PrePersist
+    public void prePersist(JapBaseEntity entity) {
+        entity.markCreated(dateTimeProvider.now());
+    }
+
+    @PreUpdate
+    public void preUpdate(JapBaseEntity entity) {
+        entity.markUpdated(dateTimeProvider.now());
+    }
+}
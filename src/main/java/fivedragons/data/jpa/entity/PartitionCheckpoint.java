@@ -0,0 +1,67 @@
+package fivedragons.data.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 파티션 처리 체크포인트
+ * (afterId, endId] 범위의 회원을 처리하고, 청크를 커밋할 때 같은 트랜잭션에서 lastId 를 갱신한다.
+ * 중간에 실패하면 같은 jobName 으로 다시 실행해서 lastId 다음부터 이어서 처리한다.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_partition_checkpoint", columnNames = {"job_name", "partition_no"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class PartitionCheckpoint {
+
+    @Id @GeneratedValue
+    private Long id;
+    @Column(name = "job_name")
+    private String jobName;
+    @Column(name = "partition_no")
+    private int partitionNo;
+    private long afterId;
+    private long endId;
+    private long lastId;
+    private long processed;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    public PartitionCheckpoint(String jobName, int partitionNo, long afterId, long endId) {
+        this.jobName = jobName;
+        this.partitionNo = partitionNo;
+        this.afterId = afterId;
+        this.endId = endId;
+        this.lastId = afterId;
+        this.status = Status.READY;
+    }
+
+    public void advance(long lastId, long count) {
+        this.lastId = lastId;
+        this.processed += count;
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail() {
+        this.status = Status.FAILED;
+    }
+
+    public enum Status {
+        READY, COMPLETED, FAILED
+    }
+}
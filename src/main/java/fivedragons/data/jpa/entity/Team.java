@@ -1,31 +1,53 @@
 package fivedragons.data.jpa.entity;
 
+import fivedragons.data.jpa.cache.MemberDtoCacheListener;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OptimisticLock;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(MemberDtoCacheListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team")
+@BatchSize(size = 100) // member.getTeam() 프록시를 초기화할 때 아직 초기화 안 된 팀 프록시를 100개씩 묶어서 조회
 @Getter @Setter
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 @ToString(of = {"id", "name"})
 public class Team extends JapBaseEntity {
-    @Id @GeneratedValue
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_seq_generator")
+    @SequenceGenerator(name = "team_seq_generator", sequenceName = "team_seq", allocationSize = 100) // 시퀀스 호출 1번에 id 100개 확보
     @Column(name = "team_id")
     private Long id;
+
+    @Version // 낙관적 락 - update 시 where version = ? 로 충돌 감지
+    @Setter(AccessLevel.NONE)
+    private Long version;
+
     private String name;
 
     @OneToMany(mappedBy = "team")
     @BatchSize(size = 100)
+    @OptimisticLock(excluded = true) // 연관관계 주인은 Member.team - 회원 추가/이동으로 팀 version 이 올라가지 않게
     private List<Member> members = new ArrayList<>();
 
     public Team(String name) {
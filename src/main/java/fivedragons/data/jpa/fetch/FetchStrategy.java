@@ -0,0 +1,21 @@
+package fivedragons.data.jpa.fetch;
+
+/**
+ * 회원 + 팀 조회 방식
+ * JOIN_FETCH   - join fetch 한 번 (row 마다 팀 컬럼이 반복된다)
+ * ENTITY_GRAPH - fetchgraph 힌트로 team 을 함께 조회
+ * SUBSELECT    - 팀을 where team_id in (select team_id from member ...) 로 먼저 읽고 회원을 조회 (쿼리 2번, 팀은 중복 없이)
+ * LAZY_BATCH   - 회원만 조회, 팀은 처음 접근할 때 @BatchSize 단위로 조회 (접근하지 않으면 팀 쿼리 없음)
+ */
+public enum FetchStrategy {
+
+    JOIN_FETCH,
+    ENTITY_GRAPH,
+    SUBSELECT,
+    LAZY_BATCH;
+
+    // 메트릭 태그 값
+    public String tag() {
+        return name().toLowerCase().replace('_', '-');
+    }
+}
@@ -0,0 +1,208 @@
+package fivedragons.data.jpa.fetch;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회(operation)별 fetch 전략 선택
+ * 실행할 때마다 결과 건수, 팀 카디널리티(서로 다른 팀 수 / 회원 수), 전략별 지연 시간을 EWMA 로 기록하고,
+ * LAZY_BATCH 로 실행한 호출에서는 호출한 쪽이 팀에 실제로 접근했는지(연관 접근률)와
+ * 조회 후 요청/트랜잭션이 끝날 때까지 실행된 SQL 시간(지연 비용 - 나중에 배치로 읽은 팀 조회)을 기록한다.
+ *
+ * 선택 규칙
+ * - 지연 시간은 결과 건수 구간(SizeClass)별로 따로 기록한다. 다음 호출 건수는 EWMA 결과 건수로 예측
+ * - 해당 구간에서 아직 측정하지 않은 전략이 있으면 먼저 실행해 본다. (explore)
+ * - 그 뒤로는 exploreEvery 번마다 한 번씩 전략을 돌아가며 다시 측정하고, 나머지는 지연 시간이 가장 짧은 전략 (exploit)
+ * - LAZY_BATCH 는 회원 조회 시간 + 지연 비용으로 비교하고, 연관 접근률이 lazyHitThreshold 미만일 때만 후보로 둔다.
+ *   지연 비용은 그 사이 호출한 쪽이 실행한 다른 SQL 도 포함하므로 상한값이다. (팀에 접근하지 않은 호출은 0)
+ *
+ * 메트릭
+ * - fetch.strategy.decisions (operation, strategy, reason) - 선택 횟수
+ * - fetch.strategy.latency (operation, strategy) - 전략별 조회 시간
+ * - fetch.lazy.deferred (operation) - LAZY_BATCH 지연 비용
+ * - fetch.result.size (operation) - 결과 건수
+ * - fetch.team.cardinality, fetch.association.hit.ratio (operation) - EWMA 게이지
+ */
+@Component
+public class FetchStrategySelector {
+
+    private static final double ALPHA = 0.2; // EWMA 가중치 - 최근 값 20%
+    private static final FetchStrategy[] STRATEGIES = FetchStrategy.values();
+
+    private final MeterRegistry registry;
+    private final int exploreEvery;
+    private final double lazyHitThreshold;
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+
+    public FetchStrategySelector(MeterRegistry registry,
+                                 @Value("${member.fetch.explore-every:20}") int exploreEvery,
+                                 @Value("${member.fetch.lazy-hit-threshold:0.5}") double lazyHitThreshold) {
+        if (exploreEvery < 1) {
+            throw new IllegalArgumentException("exploreEvery 는 1 이상이어야 합니다. exploreEvery = " + exploreEvery);
+        }
+        this.registry = registry;
+        this.exploreEvery = exploreEvery;
+        this.lazyHitThreshold = lazyHitThreshold;
+    }
+
+    public FetchStrategy select(String operation) {
+        Decision decision = stats(operation).next(exploreEvery, lazyHitThreshold);
+        count(operation, decision.strategy(), decision.reason());
+        return decision.strategy();
+    }
+
+    /**
+     * 영속성 컨텍스트가 없어서 (트랜잭션, OSIV 밖) 한 번의 쿼리로 끝내야 할 때 - 통계와 상관없이 JOIN_FETCH
+     */
+    public FetchStrategy fallback(String operation) {
+        count(operation, FetchStrategy.JOIN_FETCH, "no-context");
+        return FetchStrategy.JOIN_FETCH;
+    }
+
+    public void recordExecution(String operation, FetchStrategy strategy, long nanos, int rows, int distinctTeams) {
+        Timer.builder("fetch.strategy.latency")
+                .tags(Tags.of("operation", operation, "strategy", strategy.tag()))
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("fetch.result.size")
+                .tags(Tags.of("operation", operation))
+                .register(registry)
+                .record(rows);
+        stats(operation).recordExecution(strategy, nanos, rows, distinctTeams);
+    }
+
+    /**
+     * @param rows          LAZY_BATCH 로 읽은 회원 수
+     * @param hit           그 결과에서 팀에 한 번이라도 접근했는지
+     * @param deferredNanos 조회 후 요청/트랜잭션이 끝날 때까지 실행된 SQL 시간 (팀에 접근하지 않았으면 0)
+     */
+    public void recordLazyUse(String operation, int rows, boolean hit, long deferredNanos) {
+        Timer.builder("fetch.lazy.deferred")
+                .tags(Tags.of("operation", operation))
+                .register(registry)
+                .record(deferredNanos, TimeUnit.NANOSECONDS);
+        stats(operation).recordLazyUse(rows, hit, deferredNanos);
+    }
+
+    public FetchStats statsOf(String operation) {
+        OperationStats stats = operations.get(operation);
+        return stats == null ? FetchStats.EMPTY : stats.snapshot();
+    }
+
+    private void count(String operation, FetchStrategy strategy, String reason) {
+        registry.counter("fetch.strategy.decisions",
+                "operation", operation, "strategy", strategy.tag(), "reason", reason).increment();
+    }
+
+    private OperationStats stats(String operation) {
+        return operations.computeIfAbsent(operation, key -> {
+            OperationStats stats = new OperationStats();
+            Tags tags = Tags.of("operation", key);
+            registry.gauge("fetch.team.cardinality", tags, stats, s -> s.snapshot().teamCardinality());
+            registry.gauge("fetch.association.hit.ratio", tags, stats, s -> s.snapshot().hitRatio());
+            return stats;
+        });
+    }
+
+    /**
+     * 값이 NaN 이면 아직 측정 전
+     */
+    public record FetchStats(double resultSize, double teamCardinality, double hitRatio) {
+        static final FetchStats EMPTY = new FetchStats(Double.NaN, Double.NaN, Double.NaN);
+    }
+
+    private record Decision(FetchStrategy strategy, String reason) {
+    }
+
+    // 결과 건수 구간 - 건수에 따라 유리한 전략이 달라지므로 지연 시간을 구간별로 비교한다.
+    enum SizeClass {
+        SMALL, MEDIUM, LARGE;
+
+        static SizeClass of(double rows) {
+            if (Double.isNaN(rows) || rows < 100) {
+                return SMALL;
+            }
+            return rows < 5_000 ? MEDIUM : LARGE;
+        }
+    }
+
+    private static final class OperationStats {
+
+        private final double[][] latency = new double[SizeClass.values().length][STRATEGIES.length];
+        private final double[] lazyDeferred = new double[SizeClass.values().length];
+        private double resultSize = Double.NaN;
+        private double teamCardinality = Double.NaN;
+        private double hitRatio = Double.NaN;
+        private long calls;
+
+        OperationStats() {
+            for (double[] bySize : latency) {
+                Arrays.fill(bySize, Double.NaN);
+            }
+            Arrays.fill(lazyDeferred, Double.NaN);
+        }
+
+        synchronized Decision next(int exploreEvery, double lazyHitThreshold) {
+            int sizeClass = SizeClass.of(resultSize).ordinal();
+            double[] bySize = latency[sizeClass];
+            long call = calls++;
+            for (FetchStrategy strategy : STRATEGIES) {
+                if (Double.isNaN(bySize[strategy.ordinal()])) {
+                    return new Decision(strategy, "explore");
+                }
+            }
+            if (call % exploreEvery == exploreEvery - 1) {
+                return new Decision(STRATEGIES[(int) (call / exploreEvery % STRATEGIES.length)], "explore");
+            }
+
+            FetchStrategy best = null;
+            double bestCost = Double.MAX_VALUE;
+            for (FetchStrategy strategy : STRATEGIES) {
+                double cost = bySize[strategy.ordinal()];
+                if (strategy == FetchStrategy.LAZY_BATCH) {
+                    if (!(hitRatio < lazyHitThreshold)) {
+                        continue;
+                    }
+                    cost += Double.isNaN(lazyDeferred[sizeClass]) ? 0 : lazyDeferred[sizeClass];
+                }
+                if (best == null || cost < bestCost) {
+                    best = strategy;
+                    bestCost = cost;
+                }
+            }
+            return new Decision(best, "exploit");
+        }
+
+        synchronized void recordExecution(FetchStrategy strategy, long nanos, int rows, int distinctTeams) {
+            double[] bySize = latency[SizeClass.of(rows).ordinal()];
+            bySize[strategy.ordinal()] = ewma(bySize[strategy.ordinal()], nanos);
+            resultSize = ewma(resultSize, rows);
+            if (rows > 0) {
+                teamCardinality = ewma(teamCardinality, (double) distinctTeams / rows);
+            }
+        }
+
+        synchronized void recordLazyUse(int rows, boolean hit, long deferredNanos) {
+            int sizeClass = SizeClass.of(rows).ordinal();
+            lazyDeferred[sizeClass] = ewma(lazyDeferred[sizeClass], deferredNanos);
+            hitRatio = ewma(hitRatio, hit ? 1 : 0);
+        }
+
+        synchronized FetchStats snapshot() {
+            return new FetchStats(resultSize, teamCardinality, hitRatio);
+        }
+
+        private static double ewma(double current, double sample) {
+            return Double.isNaN(current) ? sample : current + ALPHA * (sample - current);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package fivedragons.data.jpa.lock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PessimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.StaleStateException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 충돌 시 재시도하는 쓰기 실행기
+ * 시도마다 새 트랜잭션(REQUIRES_NEW)으로 실행해서 다시 읽은 최신 버전으로 재계산한다.
+ * 낙관적 락 충돌(버전 불일치), 비관적 락 타임아웃/데드락이면 backoff 후 재시도하고,
+ * maxAttempts 를 넘으면 마지막 예외를 그대로 던진다.
+ *
+ * backoff 는 지수 증가 + full jitter (0 ~ min(max, initial * 2^(n-1)))
+ * 같은 row 를 노리는 쓰기들이 같은 타이밍에 다시 부딪히지 않게 흩어 준다.
+ */
+@Slf4j
+@Component
+public class ConflictRetryExecutor {
+
+    private final TransactionTemplate transaction;
+    private final MeterRegistry registry;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+
+    public ConflictRetryExecutor(PlatformTransactionManager transactionManager,
+                                 MeterRegistry registry,
+                                 @Value("${member.lock.retry.max-attempts:5}") int maxAttempts,
+                                 @Value("${member.lock.retry.initial-backoff-ms:5}") long initialBackoffMs,
+                                 @Value("${member.lock.retry.max-backoff-ms:200}") long maxBackoffMs) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts 는 1 이상이어야 합니다. maxAttempts = " + maxAttempts);
+        }
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.registry = registry;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    public <T> T execute(String operation, LockStrategy strategy, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = transaction.execute(status -> action.get());
+                count(operation, strategy, "success");
+                return result;
+            } catch (RuntimeException e) {
+                if (!isConflict(e)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    count(operation, strategy, "exhausted");
+                    throw e;
+                }
+                count(operation, strategy, "conflict");
+                log.debug("write conflict. operation = {}, strategy = {}, attempt = {}", operation, strategy, attempt);
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    private void backoff(int attempt, RuntimeException cause) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    static boolean isConflict(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ConcurrencyFailureException
+                    || t instanceof OptimisticLockException
+                    || t instanceof PessimisticLockException
+                    || t instanceof LockTimeoutException
+                    || t instanceof StaleStateException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void count(String operation, LockStrategy strategy, String result) {
+        registry.counter("lock.attempts",
+                "operation", operation,
+                "strategy", strategy.name().toLowerCase(),
+                "result", result).increment();
+    }
+}
@@ -0,0 +1,25 @@
+package fivedragons.data.jpa.lock;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * 쓰기 작업의 동시성 제어 방식
+ * OPTIMISTIC  - 락 없이 읽고 커밋 시 @Version 으로 충돌 감지, 충돌하면 재시도
+ * PESSIMISTIC - select ... for update 로 row 락을 잡고 순서대로 처리
+ */
+public enum LockStrategy {
+
+    OPTIMISTIC(LockModeType.NONE),
+    PESSIMISTIC(LockModeType.PESSIMISTIC_WRITE);
+
+    private final LockModeType readLockMode;
+
+    LockStrategy(LockModeType readLockMode) {
+        this.readLockMode = readLockMode;
+    }
+
+    // 엔티티 조회 시 사용할 락 모드 (@Version 이 있으면 NONE 이어도 update 시 버전 검사)
+    public LockModeType readLockMode() {
+        return readLockMode;
+    }
+}
@@ -0,0 +1,26 @@
+package fivedragons.data.jpa.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업(operation)별 락 방식 선택
+ * member.lock.operations.{operation} 이 있으면 그 값, 없으면 member.lock.default-mode
+ */
+@Component
+public class LockStrategyResolver {
+
+    private final Environment environment;
+    private final LockStrategy defaultStrategy;
+
+    public LockStrategyResolver(Environment environment,
+                                @Value("${member.lock.default-mode:optimistic}") LockStrategy defaultStrategy) {
+        this.environment = environment;
+        this.defaultStrategy = defaultStrategy;
+    }
+
+    public LockStrategy resolve(String operation) {
+        return environment.getProperty("member.lock.operations." + operation, LockStrategy.class, defaultStrategy);
+    }
+}
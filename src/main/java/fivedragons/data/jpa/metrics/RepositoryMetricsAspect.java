@@ -0,0 +1,135 @@
+package fivedragons.data.jpa.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리포지토리 메서드별 SQL 지표 수집 + 서비스/컨트롤러 호출 단위 N+1 감지
+ *
+ * repository.invocation      - 메서드 실행 시간 (histogram)
+ * repository.sql.statements  - 호출 1번당 SQL 실행 횟수
+ * repository.sql.time        - 호출 1번당 JDBC 실행 시간 합계
+ * repository.sql.rows        - 호출 1번당 조회 row 수
+ * repository.sql.n_plus_one  - 같은 select 가 바인딩 값만 바뀌어 반복 실행된 횟수 (insert/update/delete 제외)
+ */
+@Slf4j
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+    private static final String BASE_PACKAGE = "fivedragons.data.jpa";
+
+    private final MeterRegistry registry;
+    private final int nPlusOneThreshold;
+
+    public RepositoryMetricsAspect(MeterRegistry registry,
+                                   @Value("${metrics.sql.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.registry = registry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))"
+            + " || execution(public * fivedragons.data.jpa.repository.MemberJpaRepository.*(..))"
+            + " || execution(public * fivedragons.data.jpa.repository.TeamJpaRepository.*(..))")
+    public Object repository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String name = name(joinPoint);
+        SqlMetricsContext context = SqlMetricsContext.openRepository(name);
+        if (context == null) {
+            return joinPoint.proceed();
+        }
+
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            SqlMetricsContext.closeRepository();
+            record(context, elapsed);
+        }
+    }
+
+    @Around("(within(@org.springframework.stereotype.Service *) || within(@org.springframework.web.bind.annotation.RestController *))"
+            + " && execution(public * " + BASE_PACKAGE + "..*(..))")
+    public Object unitOfWork(ProceedingJoinPoint joinPoint) throws Throwable {
+        SqlMetricsContext context = SqlMetricsContext.openUnitOfWork(name(joinPoint));
+        if (context == null) {
+            return joinPoint.proceed();
+        }
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            SqlMetricsContext.closeUnitOfWork();
+            detectNPlusOne(context);
+        }
+    }
+
+    private void record(SqlMetricsContext context, long elapsedNanos) {
+        String[] tags = tags(context.getName());
+        Timer.builder("repository.invocation")
+                .tags(tags)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("repository.sql.statements")
+                .tags(tags)
+                .register(registry)
+                .record(context.getStatements());
+        Timer.builder("repository.sql.time")
+                .tags(tags)
+                .register(registry)
+                .record(context.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("repository.sql.rows")
+                .tags(tags)
+                .register(registry)
+                .record(context.getRows());
+    }
+
+    private void detectNPlusOne(SqlMetricsContext context) {
+        for (Map.Entry<String, Set<String>> entry : context.getExecutions().entrySet()) {
+            int distinct = entry.getValue().size();
+            if (distinct >= nPlusOneThreshold) {
+                log.warn("N+1 의심 - {} 에서 같은 SQL 이 바인딩 값만 바꿔 {}번 이상 실행됨: {}",
+                        context.getName(), distinct, entry.getKey());
+                registry.counter("repository.sql.n_plus_one", tags(context.getName()))
+                        .increment();
+            }
+        }
+    }
+
+    private static String[] tags(String name) {
+        int index = name.indexOf('.');
+        return new String[]{"repository", name.substring(0, index), "method", name.substring(index + 1)};
+    }
+
+    /**
+     * Spring Data 리포지토리는 프록시가 구현한 우리 인터페이스 이름(MemberRepository)을 쓴다.
+     */
+    private static String name(ProceedingJoinPoint joinPoint) {
+        String method = joinPoint.getSignature().getName();
+        Object target = joinPoint.getThis();
+        if (target != null && AopUtils.isJdkDynamicProxy(target)) {
+            for (Class<?> type : target.getClass().getInterfaces()) {
+                if (type.getName().startsWith(BASE_PACKAGE)) {
+                    return type.getSimpleName() + "." + method;
+                }
+            }
+        }
+        Class<?> type = target != null ? AopUtils.getTargetClass(target) : joinPoint.getSignature().getDeclaringType();
+        return ClassUtils.getUserClass(type).getSimpleName() + "." + method;
+    }
+}
@@ -0,0 +1,99 @@
+package fivedragons.data.jpa.metrics;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 번의 호출(리포지토리 메서드 또는 서비스/컨트롤러 호출) 동안 실행된 SQL 을 모은다.
+ * 스레드 로컬로 관리하며, 리포지토리 범위와 작업(unit of work) 범위를 따로 둔다.
+ */
+public class SqlMetricsContext {
+
+    private static final ThreadLocal<SqlMetricsContext> REPOSITORY = new ThreadLocal<>();
+    private static final ThreadLocal<SqlMetricsContext> UNIT_OF_WORK = new ThreadLocal<>();
+
+    private final String name;
+    private long statements;
+    private long jdbcNanos;
+    private long rows;
+    // 실행된 SQL -> 바인딩된 값이 다른 SQL 들 (N+1 감지용, 작업 범위에서만 사용)
+    private final Map<String, Set<String>> executions = new HashMap<>();
+
+    private SqlMetricsContext(String name) {
+        this.name = name;
+    }
+
+    static SqlMetricsContext currentRepository() {
+        return REPOSITORY.get();
+    }
+
+    static SqlMetricsContext currentUnitOfWork() {
+        return UNIT_OF_WORK.get();
+    }
+
+    /**
+     * 이미 열린 범위가 있으면 null - 가장 바깥 호출에만 집계한다.
+     */
+    static SqlMetricsContext openRepository(String name) {
+        return open(REPOSITORY, name);
+    }
+
+    static SqlMetricsContext openUnitOfWork(String name) {
+        return open(UNIT_OF_WORK, name);
+    }
+
+    private static SqlMetricsContext open(ThreadLocal<SqlMetricsContext> holder, String name) {
+        if (holder.get() != null) {
+            return null;
+        }
+        SqlMetricsContext context = new SqlMetricsContext(name);
+        holder.set(context);
+        return context;
+    }
+
+    static void closeRepository() {
+        REPOSITORY.remove();
+    }
+
+    static void closeUnitOfWork() {
+        UNIT_OF_WORK.remove();
+    }
+
+    void addStatement(long elapsedNanos) {
+        statements++;
+        jdbcNanos += elapsedNanos;
+    }
+
+    void addExecution(String sql, String sqlWithValues, int maxTracked) {
+        Set<String> values = executions.computeIfAbsent(sql, key -> new HashSet<>());
+        if (values.size() < maxTracked) {
+            values.add(sqlWithValues);
+        }
+    }
+
+    void addRow() {
+        rows++;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    Map<String, Set<String>> getExecutions() {
+        return executions;
+    }
+}
@@ -0,0 +1,67 @@
+package fivedragons.data.jpa.metrics;
+
+import com.p6spy.engine.common.ResultSetInformation;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * p6spy 이벤트로 현재 범위(SqlMetricsContext)에 SQL 실행 횟수, JDBC 시간, 조회 row 수를 쌓는다.
+ */
+@Component
+public class SqlMetricsListener extends SimpleJdbcEventListener {
+
+    private final int nPlusOneThreshold;
+
+    public SqlMetricsListener(@Value("${metrics.sql.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        SqlMetricsContext repository = SqlMetricsContext.currentRepository();
+        if (repository != null) {
+            repository.addStatement(timeElapsedNanos);
+        }
+
+        SqlMetricsContext unitOfWork = SqlMetricsContext.currentUnitOfWork();
+        if (unitOfWork != null) {
+            unitOfWork.addStatement(timeElapsedNanos);
+            String sql = statementInformation.getSql();
+            if (isQuery(sql)) {
+                // 기준치만 넘으면 판단할 수 있으므로 바인딩 값은 threshold 개까지만 보관한다.
+                unitOfWork.addExecution(sql, statementInformation.getSqlWithValues(), nPlusOneThreshold);
+            }
+        }
+    }
+
+    /**
+     * N+1 은 조회만 본다. row 마다 실행되는 insert/update/delete(배치 포함)는 쓰기 패턴이라 제외
+     */
+    static boolean isQuery(String sql) {
+        if (sql == null) {
+            return false;
+        }
+        String trimmed = sql.stripLeading();
+        return trimmed.regionMatches(true, 0, "select", 0, 6) || trimmed.regionMatches(true, 0, "with", 0, 4);
+    }
+
+    @Override
+    public void onAfterResultSetNext(ResultSetInformation resultSetInformation, long timeElapsedNanos, boolean hasNext, SQLException e) {
+        if (!hasNext) {
+            return;
+        }
+
+        SqlMetricsContext repository = SqlMetricsContext.currentRepository();
+        if (repository != null) {
+            repository.addRow();
+        }
+        SqlMetricsContext unitOfWork = SqlMetricsContext.currentUnitOfWork();
+        if (unitOfWork != null) {
+            unitOfWork.addRow();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package fivedragons.data.jpa.repository;
+
+import fivedragons.data.jpa.entity.Item;
+
+public interface ItemRepositoryCustom {
+
+    // 신규 item 대량 저장 - select 없이 insert 만, batchSize 마다 flush/clear
+    long insertAll(Iterable<Item> items, int batchSize);
+
+    // 없는 id 만 insert (MERGE ... when not matched) - 이미 있는 row 는 갱신하지 않는다. (upsert 아님, 존재 여부 select 없음)
+    // 반환값은 실제로 insert 된 건수 (넘긴 item 수가 아님)
+    long insertIfAbsentAll(Iterable<Item> items, int batchSize);
+}
@@ -0,0 +1,89 @@
+package fivedragons.data.jpa.repository;
+
+import fivedragons.data.jpa.audit.AuditDateTimeProvider;
+import fivedragons.data.jpa.entity.Item;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ItemRepositoryImpl implements ItemRepositoryCustom {
+
+    // when matched 절이 없으므로 이미 있는 id 는 그대로 둔다. (Item 은 갱신할 감사 컬럼이 없다.)
+    private static final String MERGE_SQL =
+            "merge into item t using (values (?, ?)) s(id, created_date) on t.id = s.id " +
+                    "when not matched then insert (id, created_date) values (s.id, s.created_date)";
+
+    private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditDateTimeProvider auditDateTimeProvider;
+
+    @Override
+    @Transactional
+    public long insertAll(Iterable<Item> items, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize 는 1 이상이어야 합니다. batchSize = " + batchSize);
+        }
+
+        Session session = em.unwrap(Session.class);
+        Integer originalBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+        try (AuditDateTimeProvider.Batch auditBatch = auditDateTimeProvider.openBatch()) {
+            long count = 0;
+            for (Item item : items) {
+                em.persist(item);
+                if (++count % batchSize == 0) {
+                    em.flush();
+                    em.clear();
+                    auditBatch.next();
+                }
+            }
+            em.flush();
+            em.clear();
+            return count;
+        } finally {
+            session.setJdbcBatchSize(originalBatchSize);
+        }
+    }
+
+    @Override
+    @Transactional
+    public long insertIfAbsentAll(Iterable<Item> items, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize 는 1 이상이어야 합니다. batchSize = " + batchSize);
+        }
+
+        // 같은 트랜잭션에서 persist 된 item 이 먼저 반영되도록 flush
+        em.flush();
+
+        Timestamp now = Timestamp.valueOf(auditDateTimeProvider.now());
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        long inserted = 0;
+        for (Item item : items) {
+            batch.add(new Object[]{item.getId(), now});
+            if (batch.size() == batchSize) {
+                inserted += inserted(jdbcTemplate.batchUpdate(MERGE_SQL, batch));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            inserted += inserted(jdbcTemplate.batchUpdate(MERGE_SQL, batch));
+        }
+        return inserted;
+    }
+
+    // 이미 있는 id 는 0. 드라이버가 건수를 알려 주지 않으면(SUCCESS_NO_INFO) 세지 않는다.
+    private static long inserted(int[] updateCounts) {
+        long inserted = 0;
+        for (int updateCount : updateCounts) {
+            inserted += Math.max(updateCount, 0);
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,56 @@
+package fivedragons.data.jpa.repository;
+
+import fivedragons.data.jpa.entity.Member;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * keyset 페이징용 커서
+ * 정렬 키(username) + member_id 를 Base64 로 감싼 불투명 토큰으로 주고받는다.
+ */
+public class MemberCursor {
+
+    private static final String DELIMITER = ":";
+
+    private final String username;
+    private final Long id;
+
+    public MemberCursor(String username, Long id) {
+        this.username = username;
+        this.id = id;
+    }
+
+    public static MemberCursor of(Member member) {
+        return new MemberCursor(member.getUsername(), member.getId());
+    }
+
+    public static MemberCursor decode(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            return new MemberCursor(raw.substring(index + 1), Long.valueOf(raw.substring(0, index)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서 입니다. cursor = " + token, e);
+        }
+    }
+
+    public String encode() {
+        // id 는 숫자라서 구분자가 포함될 일이 없으므로 앞에 둔다.
+        String raw = id + DELIMITER + username;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,12 @@
+package fivedragons.data.jpa.repository;
+
+import fivedragons.data.jpa.entity.Member;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface MemberFetchRepository {
+
+    // 회원 + 팀 조회 - fetch join / entity graph / subselect / lazy batch 중 operation 별 측정값으로 골라서 실행
+    List<Member> findAllWithTeam(String operation, Specification<Member> spec);
+}
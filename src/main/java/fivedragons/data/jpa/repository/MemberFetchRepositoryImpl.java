@@ -0,0 +1,199 @@
+package fivedragons.data.jpa.repository;
+
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.Team;
+import fivedragons.data.jpa.fetch.FetchStrategy;
+import fivedragons.data.jpa.fetch.FetchStrategySelector;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+@RequiredArgsConstructor
+public class MemberFetchRepositoryImpl implements MemberFetchRepository {
+
+    private static final String HIT_CALLBACK = MemberFetchRepositoryImpl.class.getName() + ".HIT.";
+    private static final AtomicLong HIT_CALLBACK_SEQ = new AtomicLong();
+
+    private final EntityManager em;
+    private final EntityManagerFactory emf;
+    private final FetchStrategySelector selector;
+
+    @Override
+    public List<Member> findAllWithTeam(String operation, Specification<Member> spec) {
+        // 영속성 컨텍스트가 없으면 쿼리마다 EntityManager 가 달라서 subselect 로 읽은 팀이 회원과 이어지지 않고, lazy 는 접근 시 예외
+        boolean bound = TransactionSynchronizationManager.hasResource(emf);
+        FetchStrategy strategy = bound ? selector.select(operation) : selector.fallback(operation);
+
+        long start = System.nanoTime();
+        List<Member> members = switch (strategy) {
+            case JOIN_FETCH -> findJoinFetch(spec);
+            case ENTITY_GRAPH -> findEntityGraph(spec);
+            case SUBSELECT -> findSubselect(spec);
+            case LAZY_BATCH -> findMembers(spec);
+        };
+        long nanos = System.nanoTime() - start;
+
+        Set<Long> teamIds = new HashSet<>();
+        for (Member member : members) {
+            Team team = member.getTeam();
+            if (team != null) {
+                teamIds.add(team.getId()); // 프록시에서 id 만 꺼내므로 초기화하지 않는다.
+            }
+        }
+        selector.recordExecution(operation, strategy, nanos, members.size(), teamIds.size());
+        if (strategy == FetchStrategy.LAZY_BATCH && !teamIds.isEmpty()) {
+            watchHits(operation, members);
+        }
+        return members;
+    }
+
+    private List<Member> findJoinFetch(Specification<Member> spec) {
+        CriteriaBuilder builder = em.getCriteriaBuilder();
+        CriteriaQuery<Member> query = builder.createQuery(Member.class);
+        Root<Member> root = query.from(Member.class);
+        root.fetch("team", JoinType.LEFT);
+        return em.createQuery(where(query.select(root), root, spec)).getResultList();
+    }
+
+    private List<Member> findEntityGraph(Specification<Member> spec) {
+        EntityGraph<Member> graph = em.createEntityGraph(Member.class);
+        graph.addAttributeNodes("team");
+        return membersQuery(spec)
+                .setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, graph)
+                .getResultList();
+    }
+
+    private List<Member> findSubselect(Specification<Member> spec) {
+        // 팀을 먼저 영속성 컨텍스트에 올려 두면 뒤에 읽는 회원의 team 은 프록시 대신 이 엔티티로 채워진다.
+        CriteriaBuilder builder = em.getCriteriaBuilder();
+        CriteriaQuery<Team> query = builder.createQuery(Team.class);
+        Root<Team> team = query.from(Team.class);
+
+        Subquery<Long> teamIds = query.subquery(Long.class);
+        Root<Member> member = teamIds.from(Member.class);
+        Predicate predicate = spec == null ? null : spec.toPredicate(member, query, builder);
+        teamIds.select(member.get("team").<Long>get("id"));
+        if (predicate != null) {
+            teamIds.where(predicate);
+        }
+        em.createQuery(query.select(team).where(team.get("id").in(teamIds))).getResultList();
+
+        return findMembers(spec);
+    }
+
+    private List<Member> findMembers(Specification<Member> spec) {
+        return membersQuery(spec).getResultList();
+    }
+
+    private TypedQuery<Member> membersQuery(Specification<Member> spec) {
+        CriteriaBuilder builder = em.getCriteriaBuilder();
+        CriteriaQuery<Member> query = builder.createQuery(Member.class);
+        Root<Member> root = query.from(Member.class);
+        return em.createQuery(where(query.select(root), root, spec));
+    }
+
+    private CriteriaQuery<Member> where(CriteriaQuery<Member> query, Root<Member> root, Specification<Member> spec) {
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, em.getCriteriaBuilder());
+        return predicate == null ? query : query.where(predicate);
+    }
+
+    /**
+     * 요청(없으면 트랜잭션)이 끝날 때 팀 프록시가 하나라도 초기화되어 있으면 호출한 쪽이 팀에 접근한 것으로 기록한다.
+     * 팀에 접근했으면 조회 후 그때까지 같은 세션에서 실행된 SQL 시간을 LAZY_BATCH 의 지연 비용으로 함께 기록한다.
+     * (팀 배치 조회 외의 SQL 도 섞이므로 상한값, 팀에 접근하지 않았으면 0)
+     * 요청/트랜잭션 밖이면 언제 다 썼는지 알 수 없으므로 기록하지 않는다.
+     */
+    private void watchHits(String operation, List<Member> members) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        boolean transaction = TransactionSynchronizationManager.isSynchronizationActive();
+        if (request == null && !transaction) {
+            return;
+        }
+
+        DeferredJdbcTime deferred = new DeferredJdbcTime();
+        em.unwrap(Session.class).addEventListeners(deferred); // 영속성 컨텍스트가 바인딩된 경우에만 여기로 온다.
+        Runnable check = () -> {
+            long deferredNanos = deferred.stop();
+            boolean hit = members.stream()
+                    .anyMatch(member -> member.getTeam() != null && Hibernate.isInitialized(member.getTeam()));
+            selector.recordLazyUse(operation, members.size(), hit, hit ? deferredNanos : 0);
+        };
+
+        if (request != null) {
+            request.registerDestructionCallback(HIT_CALLBACK + HIT_CALLBACK_SEQ.incrementAndGet(), check,
+                    RequestAttributes.SCOPE_REQUEST);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                check.run();
+            }
+        });
+    }
+
+    /**
+     * 세션에서 실행된 JDBC 문장 시간 합계 - stop() 이후에는 더하지 않는다. (세션 리스너는 떼어낼 수 없다)
+     */
+    private static final class DeferredJdbcTime extends BaseSessionEventListener {
+
+        private long nanos;
+        private long startedAt;
+        private boolean stopped;
+
+        @Override
+        public synchronized void jdbcExecuteStatementStart() {
+            startedAt = System.nanoTime();
+        }
+
+        @Override
+        public synchronized void jdbcExecuteStatementEnd() {
+            add();
+        }
+
+        @Override
+        public synchronized void jdbcExecuteBatchStart() {
+            startedAt = System.nanoTime();
+        }
+
+        @Override
+        public synchronized void jdbcExecuteBatchEnd() {
+            add();
+        }
+
+        synchronized long stop() {
+            stopped = true;
+            return nanos;
+        }
+
+        private void add() {
+            if (!stopped && startedAt != 0) {
+                nanos += System.nanoTime() - startedAt;
+            }
+            startedAt = 0;
+        }
+    }
+}
@@ -67,8 +67,9 @@ public class MemberJpaRepository {
                 .getSingleResult();
     }
 
+    // versioned - version 도 올려서 이 변경 전에 읽은 낙관적 락 수정이 덮어쓰지 못하게 한다.
     public int bulkAgePlus(int age) {
-        return em.createQuery("update Member m set m.age = m.age + 1 where m.age >= :age")
+        return em.createQuery("update versioned Member m set m.age = m.age + 1 where m.age >= :age")
                 .setParameter("age", age)
                 .executeUpdate();
     }
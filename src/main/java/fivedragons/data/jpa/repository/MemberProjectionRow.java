@@ -0,0 +1,32 @@
+package fivedragons.data.jpa.repository;
+
+/**
+ * MemberProjection 의 프록시 없는 구현 - 네이티브 쿼리 결과 row 를 위치(index)로 바로 채운다.
+ */
+public final class MemberProjectionRow implements MemberProjection {
+
+    private final Long id;
+    private final String userName;
+    private final String teamName;
+
+    public MemberProjectionRow(Long id, String userName, String teamName) {
+        this.id = id;
+        this.userName = userName;
+        this.teamName = teamName;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String getUserName() {
+        return userName;
+    }
+
+    @Override
+    public String getTeamName() {
+        return teamName;
+    }
+}
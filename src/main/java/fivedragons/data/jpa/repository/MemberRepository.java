@@ -4,9 +4,13 @@ import fivedragons.data.jpa.dto.MemberDto;
 import fivedragons.data.jpa.entity.Member;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -18,12 +22,19 @@ import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom, JpaSpecificationExecutor<Member> {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom, MemberFetchRepository,
+        JpaSpecificationExecutor<Member> {
 
     List<Member> findByUsernameAndAgeGreaterThan(String username, int age);
 
 //    @Query(name = "Member.findByUsername")
+    // 쿼리 캐시 - Member 테이블이 변경(save, bulk update 포함)되면 결과가 자동으로 무효화된다.
+    @QueryHints(value = {
+            @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheRegion", value = "member-by-username")
+    })
     List<Member> findByUsername(@Param("username") String username);
 
     @Query("select m from Member m where m.username = :username and m.age = :age")
@@ -32,9 +43,25 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
     @Query("select m.username from Member m")
     List<String> findUsernameList();
 
+    @ReadOnlyQuery
     @Query("select new fivedragons.data.jpa.dto.MemberDto(m.id, m.username, t.name) from Member m join m.team t")
     List<MemberDto> findMemberDto();
 
+    // /members2 - 엔티티를 거치지 않고 DTO 로 바로 조회 (팀이 없는 회원 포함)
+    @ReadOnlyQuery
+    @Query(value = "select new fivedragons.data.jpa.dto.MemberDto(m.id, m.username, t.name) from Member m left join m.team t",
+            countQuery = "select count(m) from Member m")
+    Page<MemberDto> findMemberDtoPage(Pageable pageable);
+
+    // 전체 export 용 - 한 번에 List 로 올리지 않고 JDBC 커서로 fetchSize 만큼씩 읽는다.
+    // DTO 로 바로 조회하므로 영속성 컨텍스트에 엔티티가 쌓이지 않는다. (트랜잭션 안에서 close 필수)
+    @QueryHints(value = {
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("select new fivedragons.data.jpa.dto.MemberDto(m.id, m.username, t.name) from Member m left join m.team t")
+    Stream<MemberDto> streamMemberDto();
+
     @Query("select m from Member m where m.username in :names")
     List<Member> findByNames(@Param("names") List<String> names);
 
@@ -49,10 +76,38 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
 
     Slice<Member> findSliceByAge(int age, Pageable pageable); // count 쿼리 사용 안함
 
+    // keyset 스크롤 - position 의 정렬 키 다음부터 limit 건 (offset, count 쿼리 없음)
+    Window<Member> findWindowByAgeGreaterThanEqual(int age, ScrollPosition position, Sort sort, Limit limit);
+
     List<Member> findListByAge(int age, Pageable pageable);
 
+    @Query("select m from Member m")
+    List<Member> findMemberList(Pageable pageable); // count 쿼리 사용 안함
+
+    // count 결과를 쿼리 캐시(member-count 리전, TTL)에 보관
+    // Member 테이블이 변경(save, delete, bulkAgePlus 등)되면 Hibernate 가 자동으로 무효화한다.
+    @QueryHints(value = {
+            @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheRegion", value = "member-count")
+    })
+    @Query("select count(m) from Member m where m.age = :age")
+    long countCachedByAge(@Param("age") int age);
+
+    @QueryHints(value = {
+            @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheRegion", value = "member-count")
+    })
+    @Query("select count(m) from Member m")
+    long countCached();
+
+    // H2 통계 기반 추정치 - 테이블을 스캔하지 않는다.
+    @Query(value = "select row_count_estimate from information_schema.tables where table_schema = 'PUBLIC' and table_name = 'MEMBER'",
+            nativeQuery = true)
+    long estimateCount();
+
+    // versioned - version 도 올려서 이 변경 전에 읽은 낙관적 락 수정(MemberWriteService)이 덮어쓰지 못하게 한다.
     @Modifying(clearAutomatically = true)
-    @Query(value = "update Member m set m.age = m.age + 1 where m.age >= :age")
+    @Query(value = "update versioned Member m set m.age = m.age + 1 where m.age >= :age")
     int bulkAgePlus(@Param("age") int age);
 
     @Query("select m from Member m join fetch m.team")
@@ -78,18 +133,25 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     List<Member> findLockByUsername(String username);
 
+    // 인터페이스 프로젝션 - 구현 클래스를 생성자 표현식으로 바로 만든다. (필요한 컬럼만 조회, 프록시/SpEL 없음)
+    @ReadOnlyQuery
+    @Query("select new fivedragons.data.jpa.repository.UsernameOnlyView(m.username, m.age) from Member m where m.username = :username")
     List<UsernameOnly> findProjectionsByUsername(@Param("username") String username);
 
+    @ReadOnlyQuery
     @Query("SELECT new fivedragons.data.jpa.repository.UsernameOnlyDto(m.username) FROM Member m WHERE m.username = :username")
     List<UsernameOnlyDto> findProjectionsDtoByUsername(@Param("username") String username);
 
+    @ReadOnlyQuery
+    @Query("select new fivedragons.data.jpa.repository.NestedClosedProjectionsView(m.username, t.id, t.name)" +
+            " from Member m left join m.team t where m.username = :username")
     List<NestedClosedProjections> findNestedClosedProjectionsDtoByUsername(@Param("username") String username);
 
     @Query(value = "select * from member where username = ?", nativeQuery = true)
     Member findByNativeQuery(String username);
 
-    @Query(value = "select m.member_id as id, m.username, t.name as teamName " +
-            "from Member m left join team t",
+    @Query(value = "select m.member_id as id, m.username as userName, t.name as teamName " +
+            "from member m left join team t on m.team_id = t.team_id",
             countQuery = "select count(*) from member",
             nativeQuery = true)
     Page<MemberProjection> findByNativeProjection(Pageable pageable);
@@ -1,9 +1,25 @@
 package fivedragons.data.jpa.repository;
 
+import fivedragons.data.jpa.dto.CursorPage;
 import fivedragons.data.jpa.entity.Member;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface MemberRepositoryCustom {
     List<Member> findMemberCustom();
+
+    // keyset(seek) 페이징 - offset, count 쿼리 사용 안함
+    CursorPage<Member> findKeyset(String cursor, int size);
+
+    CursorPage<Member> findKeysetByAge(int age, String cursor, int size);
+
+    // findByNativeProjection 과 같은 결과 - 프록시/Map 대신 row 를 MemberProjectionRow 로 바로 매핑
+    Page<MemberProjection> findNativeProjectionRows(Pageable pageable);
+
+    // findByNames 의 대량 키 버전 - 청크 분할 + in 목록 패딩, username 별로 묶어서 반환
+    Map<String, List<Member>> findByNamesGrouped(Collection<String> names);
 }
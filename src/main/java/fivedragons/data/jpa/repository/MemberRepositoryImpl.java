@@ -1,19 +1,219 @@
 package fivedragons.data.jpa.repository;
 
+import fivedragons.data.jpa.config.AsyncConfig;
+import fivedragons.data.jpa.dto.CursorPage;
 import fivedragons.data.jpa.entity.Member;
 import jakarta.persistence.EntityManager;
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.query.TupleTransformer;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
-@RequiredArgsConstructor
 public class MemberRepositoryImpl implements MemberRepositoryCustom {
 
+    private static final String NATIVE_PROJECTION_SQL =
+            "select m.member_id as id, m.username as user_name, t.name as team_name " +
+                    "from member m left join team t on m.team_id = t.team_id";
+    private static final Map<String, String> NATIVE_PROJECTION_SORT = Map.of(
+            "id", "m.member_id",
+            "userName", "m.username",
+            "username", "m.username",
+            "teamName", "t.name");
+    // 컬럼 위치로 바로 생성 - 컬럼 이름 조회, 프록시 생성 없음
+    private static final TupleTransformer<MemberProjection> NATIVE_PROJECTION_MAPPER = (tuple, aliases) ->
+            new MemberProjectionRow((Long) tuple[0], (String) tuple[1], (String) tuple[2]);
+
     private final EntityManager em;
+    private final EntityManagerFactory emf;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor executor;
+    private final int inListChunkSize;
+    private final int keysetMaxSize;
+
+    public MemberRepositoryImpl(EntityManager em,
+                                EntityManagerFactory emf,
+                                PlatformTransactionManager transactionManager,
+                                @Qualifier(AsyncConfig.MEMBER_QUERY_EXECUTOR) Executor executor,
+                                @Value("${member.in-list.chunk-size:512}") int inListChunkSize,
+                                @Value("${member.keyset.max-size:100}") int keysetMaxSize) {
+        if (inListChunkSize < 1) {
+            throw new IllegalArgumentException("inListChunkSize 는 1 이상이어야 합니다. inListChunkSize = " + inListChunkSize);
+        }
+        if (keysetMaxSize < 1) {
+            throw new IllegalArgumentException("keysetMaxSize 는 1 이상이어야 합니다. keysetMaxSize = " + keysetMaxSize);
+        }
+        this.em = em;
+        this.emf = emf;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.executor = executor;
+        this.inListChunkSize = inListChunkSize;
+        this.keysetMaxSize = keysetMaxSize;
+    }
 
     @Override
     public List<Member> findMemberCustom() {
         return em.createQuery("select m from Member m")
                 .getResultList();
     }
+
+    @Override
+    public CursorPage<Member> findKeyset(String cursor, int size) {
+        return findKeyset(null, MemberCursor.decode(cursor), size);
+    }
+
+    @Override
+    public CursorPage<Member> findKeysetByAge(int age, String cursor, int size) {
+        return findKeyset(age, MemberCursor.decode(cursor), size);
+    }
+
+    private CursorPage<Member> findKeyset(Integer age, MemberCursor after, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size 는 1 이상이어야 합니다. size = " + size);
+        }
+        size = Math.min(size, keysetMaxSize); // 한 번에 읽는 row 수 상한
+
+        List<String> conditions = new ArrayList<>();
+        if (age != null) {
+            conditions.add("m.age = :age");
+        }
+        if (after != null) {
+            // (username, member_id) > (:username, :id) 를 풀어쓴 형태 - (username, member_id) 인덱스를 그대로 탄다.
+            conditions.add("(m.username > :username or (m.username = :username and m.id > :id))");
+        }
+
+        String jpql = "select m from Member m"
+                + (conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions))
+                + " order by m.username asc, m.id asc";
+
+        TypedQuery<Member> query = em.createQuery(jpql, Member.class)
+                .setMaxResults(size + 1); // 한 건 더 조회해서 다음 페이지 여부를 판단한다.
+        if (age != null) {
+            query.setParameter("age", age);
+        }
+        if (after != null) {
+            query.setParameter("username", after.getUsername());
+            query.setParameter("id", after.getId());
+        }
+
+        List<Member> result = query.getResultList();
+        boolean hasNext = result.size() > size;
+        List<Member> content = hasNext ? new ArrayList<>(result.subList(0, size)) : result;
+        String nextCursor = hasNext ? MemberCursor.of(content.get(size - 1)).encode() : null;
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<MemberProjection> findNativeProjectionRows(Pageable pageable) {
+        // 스칼라 타입을 미리 지정해서 ResultSet 메타데이터로 타입을 추론하지 않는다.
+        NativeQuery<MemberProjection> query = em.createNativeQuery(NATIVE_PROJECTION_SQL + orderBy(pageable.getSort()))
+                .unwrap(NativeQuery.class)
+                .addScalar("id", StandardBasicTypes.LONG)
+                .addScalar("user_name", StandardBasicTypes.STRING)
+                .addScalar("team_name", StandardBasicTypes.STRING)
+                .setTupleTransformer(NATIVE_PROJECTION_MAPPER);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize());
+        }
+
+        List<MemberProjection> content = query.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () ->
+                ((Number) em.createNativeQuery("select count(*) from member").getSingleResult()).longValue());
+    }
+
+    private static String orderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String column = NATIVE_PROJECTION_SORT.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("정렬할 수 없는 속성입니다. property = " + order.getProperty());
+            }
+            orders.add(column + (order.isAscending() ? " asc" : " desc"));
+        }
+        if (orders.stream().noneMatch(order -> order.startsWith("m.member_id "))) {
+            orders.add("m.member_id asc"); // 같은 값끼리 순서 고정
+        }
+        return " order by " + String.join(", ", orders);
+    }
+
+    /**
+     * username 별 회원 목록 (요청한 이름은 중복 제거, 없는 이름은 빈 목록)
+     * 이름을 inListChunkSize 개씩 나눠 in 쿼리를 보낸다. in_clause_parameter_padding 으로 in 목록 길이가 2의 거듭제곱으로
+     * 맞춰지므로, 목록 길이가 달라도 SQL 종류는 log2(chunkSize) 개 정도로 유지된다.
+     * 청크가 여러 개이고 호출 스레드에 영속성 컨텍스트(트랜잭션, OSIV)가 없을 때만 청크를 병렬로 조회한다.
+     * 이때 반환된 회원은 준영속 상태다.
+     */
+    @Override
+    public Map<String, List<Member>> findByNamesGrouped(Collection<String> names) {
+        Map<String, List<Member>> result = new LinkedHashMap<>();
+        names.forEach(name -> result.putIfAbsent(name, new ArrayList<>()));
+        if (result.isEmpty()) {
+            return result;
+        }
+
+        List<String> keys = new ArrayList<>(result.keySet());
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += inListChunkSize) {
+            chunks.add(keys.subList(from, Math.min(from + inListChunkSize, keys.size())));
+        }
+
+        List<Member> members = chunks.size() > 1 && !TransactionSynchronizationManager.hasResource(emf)
+                ? findInParallel(chunks)
+                : chunks.stream().flatMap(chunk -> findByNamesChunk(chunk, false).stream()).toList();
+        members.forEach(member -> result.get(member.getUsername()).add(member));
+        return result;
+    }
+
+    private List<Member> findInParallel(List<List<String>> chunks) {
+        List<CompletableFuture<List<Member>>> futures = new ArrayList<>(chunks.size());
+        for (List<String> chunk : chunks) {
+            Supplier<List<Member>> task = () -> readOnlyTransaction.execute(status -> findByNamesChunk(chunk, true));
+            try {
+                futures.add(CompletableFuture.supplyAsync(task, executor));
+            } catch (RejectedExecutionException e) {
+                futures.add(CompletableFuture.completedFuture(task.get())); // 풀이 가득 차면 호출 스레드에서 실행
+            }
+        }
+
+        List<Member> members = new ArrayList<>();
+        for (CompletableFuture<List<Member>> future : futures) {
+            try {
+                members.addAll(future.join());
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        return members;
+    }
+
+    private List<Member> findByNamesChunk(List<String> names, boolean readOnly) {
+        return em.createQuery("select m from Member m where m.username in :names", Member.class)
+                .setParameter("names", names)
+                .setHint(HibernateHints.HINT_READ_ONLY, readOnly)
+                .getResultList();
+    }
 }
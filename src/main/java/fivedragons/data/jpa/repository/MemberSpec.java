@@ -23,4 +23,12 @@ public class MemberSpec {
     public static Specification<Member> username(final String username) {
         return (Specification<Member>) (root, query, builder) -> builder.equal(root.get("username"), username);
     }
+
+    public static Specification<Member> ageGoe(final int age) {
+        return (Specification<Member>) (root, query, builder) -> builder.greaterThanOrEqualTo(root.get("age"), age);
+    }
+
+    public static Specification<Member> teamId(final Long teamId) {
+        return (Specification<Member>) (root, query, builder) -> builder.equal(root.get("team").get("id"), teamId);
+    }
 }
@@ -1,5 +1,8 @@
 package fivedragons.data.jpa.repository;
 
+/**
+ * 구현체: NestedClosedProjectionsView
+ */
 public interface NestedClosedProjections {
 
     String getUsername();
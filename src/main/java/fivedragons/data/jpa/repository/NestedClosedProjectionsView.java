@@ -0,0 +1,42 @@
+package fivedragons.data.jpa.repository;
+
+public final class NestedClosedProjectionsView implements NestedClosedProjections {
+
+    private final String username;
+    private final TeamInfo team;
+
+    public NestedClosedProjectionsView(String username, Long teamId, String teamName) {
+        this.username = username;
+        this.team = teamId == null ? null : new TeamInfoView(teamName);
+    }
+
+    // team 은 TeamBatchLoader.teamInfo - 이름은 처음 읽을 때 모아서 조회
+    public NestedClosedProjectionsView(String username, TeamInfo team) {
+        this.username = username;
+        this.team = team;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public TeamInfo getTeam() {
+        return team;
+    }
+
+    public static final class TeamInfoView implements TeamInfo {
+
+        private final String name;
+
+        public TeamInfoView(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package fivedragons.data.jpa.repository;
+
+import fivedragons.data.jpa.entity.PartitionCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PartitionCheckpointRepository extends JpaRepository<PartitionCheckpoint, Long> {
+
+    List<PartitionCheckpoint> findByJobNameOrderByPartitionNo(String jobName);
+
+    @Modifying
+    @Query("delete from PartitionCheckpoint c where c.jobName = :jobName")
+    int deleteByJobName(@Param("jobName") String jobName);
+}
@@ -0,0 +1,24 @@
+package fivedragons.data.jpa.repository;
+
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 조회 전용 쿼리
+ * - readOnly 트랜잭션: Hibernate 세션을 FlushMode.MANUAL + defaultReadOnly 로 열어 flush, 변경 감지를 하지 않는다.
+ * - org.hibernate.readOnly 힌트: 이미 쓰기 트랜잭션 안에서 호출되어도 조회한 엔티티의 스냅샷을 만들지 않는다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Transactional(readOnly = true)
+@QueryHints(value = @QueryHint(name = "org.hibernate.readOnly", value = "true"))
+public @interface ReadOnlyQuery {
+}
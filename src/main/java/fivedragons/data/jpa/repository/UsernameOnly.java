@@ -1,9 +1,11 @@
 package fivedragons.data.jpa.repository;
 
-import org.springframework.beans.factory.annotation.Value;
-
+/**
+ * 구현체: UsernameOnlyView
+ * 쿼리에서 필요한 컬럼만 생성자로 받아 만들기 때문에 프록시, SpEL(@Value) 평가가 없다.
+ */
 public interface UsernameOnly {
 
-    @Value("#{target.username + ' ' + target.age}")
+    // username + " " + age
     String getUsername();
 }
@@ -0,0 +1,15 @@
+package fivedragons.data.jpa.repository;
+
+public final class UsernameOnlyView implements UsernameOnly {
+
+    private final String username;
+
+    public UsernameOnlyView(String username, int age) {
+        this.username = username + " " + age;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+}
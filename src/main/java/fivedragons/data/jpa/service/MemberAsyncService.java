@@ -0,0 +1,44 @@
+package fivedragons.data.jpa.service;
+
+import fivedragons.data.jpa.config.AsyncConfig;
+import fivedragons.data.jpa.dto.MemberDto;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.Team;
+import fivedragons.data.jpa.repository.MemberRepository;
+import fivedragons.data.jpa.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 서로 독립적인 조회를 별도 스레드(별도 커넥션, 별도 트랜잭션)에서 병렬로 실행한다.
+ * 트랜잭션 timeout 이 쿼리 timeout 으로 적용되어 느린 쿼리는 DB 에서 끊긴다.
+ * 반환된 엔티티는 작업 트랜잭션이 끝난 뒤 준영속 상태이므로 지연 로딩이 필요 없는 형태로 조회한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Async(AsyncConfig.MEMBER_QUERY_EXECUTOR)
+@Transactional(readOnly = true, timeout = 3)
+public class MemberAsyncService {
+
+    private final MemberRepository memberRepository;
+    private final TeamRepository teamRepository;
+
+    public CompletableFuture<Page<Member>> findByAge(int age, Pageable pageable) {
+        return CompletableFuture.completedFuture(memberRepository.findByAge(age, pageable));
+    }
+
+    public CompletableFuture<List<MemberDto>> findMemberDto() {
+        return CompletableFuture.completedFuture(memberRepository.findMemberDto());
+    }
+
+    public CompletableFuture<List<Team>> findTeams() {
+        return CompletableFuture.completedFuture(teamRepository.findAll());
+    }
+}
@@ -0,0 +1,160 @@
+package fivedragons.data.jpa.service;
+
+import fivedragons.data.jpa.cache.MemberDtoCache;
+import fivedragons.data.jpa.cache.MemberScrollCache;
+import fivedragons.data.jpa.dto.BulkProgress;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.Team;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 회원 대량 변경 (나이 증가, 팀 변경, 삭제)
+ * 대상 회원을 member_id 순서로 chunkSize 개씩 읽어(keyset) 청크마다 별도 트랜잭션으로 변경, 커밋한다.
+ * - 한 번에 잡는 row lock 범위가 청크 크기로 제한된다.
+ * - clearAutomatically 처럼 영속성 컨텍스트 전체를 비우지 않고, 변경된 회원만 detach 한다.
+ */
+@Slf4j
+@Service
+public class MemberBulkService {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final TransactionTemplate chunkTransaction;
+    private final MemberDtoCache memberDtoCache;
+    private final MemberScrollCache memberScrollCache;
+
+    public MemberBulkService(PlatformTransactionManager transactionManager, MemberDtoCache memberDtoCache,
+                             MemberScrollCache memberScrollCache) {
+        this.memberDtoCache = memberDtoCache;
+        this.memberScrollCache = memberScrollCache;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public long increaseAge(Specification<Member> spec, int delta, int chunkSize, Consumer<BulkProgress> listener) {
+        return execute("increaseAge", spec, chunkSize, listener, ids ->
+                em.createQuery("update versioned Member m set m.age = m.age + :delta where m.id in :ids")
+                        .setParameter("delta", delta)
+                        .setParameter("ids", ids)
+                        .executeUpdate());
+    }
+
+    public long changeTeam(Specification<Member> spec, Long teamId, int chunkSize, Consumer<BulkProgress> listener) {
+        return execute("changeTeam", spec, chunkSize, listener, ids ->
+                em.createQuery("update versioned Member m set m.team = :team where m.id in :ids")
+                        .setParameter("team", em.getReference(Team.class, teamId))
+                        .setParameter("ids", ids)
+                        .executeUpdate());
+    }
+
+    public long delete(Specification<Member> spec, int chunkSize, Consumer<BulkProgress> listener) {
+        return execute("delete", spec, chunkSize, listener, ids ->
+                em.createQuery("delete from Member m where m.id in :ids")
+                        .setParameter("ids", ids)
+                        .executeUpdate());
+    }
+
+    private long execute(String operation, Specification<Member> spec, int chunkSize,
+                         Consumer<BulkProgress> listener, ChunkMutation mutation) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize 는 1 이상이어야 합니다. chunkSize = " + chunkSize);
+        }
+
+        long affected = 0;
+        long lastId = Long.MIN_VALUE;
+        for (int chunk = 1; ; chunk++) {
+            long after = lastId;
+            List<Long> ids = chunkTransaction.execute(status -> {
+                List<Long> targets = findIds(spec, after, chunkSize);
+                if (!targets.isEmpty()) {
+                    mutation.apply(targets);
+                }
+                return targets;
+            });
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            affected += ids.size();
+            lastId = ids.get(ids.size() - 1);
+            detachManaged(ids);
+            // 벌크 쿼리는 엔티티 이벤트가 없으므로 직접 무효화한다. 바뀐 id 를 알고 있으므로 단건 캐시는 해당 회원만 (페이지는 전체)
+            ids.forEach(memberDtoCache::memberChanged);
+            memberScrollCache.clear();
+
+            BulkProgress progress = new BulkProgress(operation, chunk, lastId, affected);
+            log.debug("bulk progress = {}", progress);
+            if (listener != null) {
+                listener.accept(progress);
+            }
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+        return affected;
+    }
+
+    /**
+     * afterId 다음부터 조건에 맞는 id 를 id 순서로 chunkSize 개 (keyset)
+     * id 가 듬성듬성해도(시퀀스 할당 단위, 삭제, 시퀀스 재시작) 빈 청크 없이 대상 row 수만큼만 청크가 생긴다.
+     */
+    private List<Long> findIds(Specification<Member> spec, long afterId, int chunkSize) {
+        CriteriaBuilder builder = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Member> root = query.from(Member.class);
+
+        Predicate range = builder.greaterThan(root.get("id"), afterId);
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, builder);
+        query.select(root.get("id"))
+                .where(predicate == null ? range : builder.and(range, predicate))
+                .orderBy(builder.asc(root.get("id")));
+        return em.createQuery(query)
+                .setMaxResults(chunkSize)
+                .getResultList();
+    }
+
+    /**
+     * 호출한 쪽 트랜잭션의 영속성 컨텍스트에 변경된 회원이 올라와 있으면 그 엔티티만 detach 한다.
+     */
+    private void detachManaged(List<Long> ids) {
+        if (ids.isEmpty() || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(Member.class);
+        for (Long id : ids) {
+            EntityKey key = session.generateEntityKey(id, persister);
+            Object managed = session.getPersistenceContextInternal().getEntity(key);
+            if (managed != null) {
+                em.detach(managed);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkMutation {
+        int apply(List<Long> ids);
+    }
+}
@@ -0,0 +1,74 @@
+package fivedragons.data.jpa.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fivedragons.data.jpa.dto.MemberDto;
+import fivedragons.data.jpa.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 회원 전체 export
+ * Stream 으로 한 건씩 읽어서 바로 Writer 에 쓰므로 테이블 크기와 상관없이 메모리 사용량이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberExportService {
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+
+    public long exportNdjson(Writer writer) throws IOException {
+        return export(writer, null, objectMapper::writeValueAsString);
+    }
+
+    public long exportCsv(Writer writer) throws IOException {
+        return export(writer, "id,username,teamName", dto ->
+                dto.getId() + "," + csv(dto.getUsername()) + "," + csv(dto.getTeamName()));
+    }
+
+    private long export(Writer writer, String header, LineFormatter formatter) throws IOException {
+        if (header != null) {
+            writer.write(header);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        try (Stream<MemberDto> stream = memberRepository.streamMemberDto()) {
+            Iterator<MemberDto> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                writer.write(formatter.format(iterator.next()));
+                writer.write('\n');
+                // 주기적으로 flush 해서 클라이언트가 도착한 row 부터 받아볼 수 있게 한다.
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    @FunctionalInterface
+    private interface LineFormatter {
+        String format(MemberDto dto) throws IOException;
+    }
+}
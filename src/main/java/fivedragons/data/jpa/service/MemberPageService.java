@@ -0,0 +1,53 @@
+package fivedragons.data.jpa.service;
+
+import fivedragons.data.jpa.dto.CountedPage;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * count 쿼리를 매 페이지마다 실행하지 않는 페이징
+ * - 정확한 total: 조건별 count 를 쿼리 캐시에 보관 (member-count 리전 TTL, 테이블 변경 시 자동 무효화)
+ * - 추정 total: DB 통계(row_count_estimate) 사용
+ * - 마지막 페이지처럼 content 만으로 total 을 알 수 있으면 count 를 아예 실행하지 않는다. (PageableExecutionUtils)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberPageService {
+
+    private final MemberRepository memberRepository;
+
+    public CountedPage<Member> findByAge(int age, Pageable pageable) {
+        return new CountedPage<>(PageableExecutionUtils.getPage(
+                memberRepository.findListByAge(age, pageable),
+                pageable,
+                () -> memberRepository.countCachedByAge(age)), true);
+    }
+
+    public CountedPage<Member> findAll(Pageable pageable, boolean estimate) {
+        if (!estimate) {
+            return new CountedPage<>(PageableExecutionUtils.getPage(
+                    memberRepository.findMemberList(pageable),
+                    pageable,
+                    memberRepository::countCached), true);
+        }
+
+        AtomicBoolean estimated = new AtomicBoolean();
+        Page<Member> page = PageableExecutionUtils.getPage(
+                memberRepository.findMemberList(pageable),
+                pageable,
+                () -> {
+                    estimated.set(true);
+                    return memberRepository.estimateCount();
+                });
+        return new CountedPage<>(page, !estimated.get());
+    }
+}
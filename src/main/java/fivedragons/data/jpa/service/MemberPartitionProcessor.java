@@ -0,0 +1,231 @@
+package fivedragons.data.jpa.service;
+
+import fivedragons.data.jpa.dto.PartitionProgress;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.PartitionCheckpoint;
+import fivedragons.data.jpa.repository.PartitionCheckpointRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 회원 테이블 파티션 병렬 처리 (read - process - write)
+ * member_id 범위를 partitions 개로 나눠 ForkJoinPool 에서 동시에 처리한다.
+ * - 파티션 안에서는 id 순서로 chunkSize 만큼 읽어 처리하고, 청크마다 새 트랜잭션(= 새 EntityManager)으로 커밋한다.
+ * - 청크 커밋과 같은 트랜잭션에서 체크포인트를 갱신하므로, 실패 후 같은 jobName 으로 다시 실행하면 남은 범위만 처리한다.
+ * - 청크마다 커넥션을 하나 잡으므로 parallelism 은 커넥션 풀보다 작게 둔다.
+ */
+@Slf4j
+@Service
+public class MemberPartitionProcessor {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final TransactionTemplate chunkTransaction;
+    private final PartitionCheckpointRepository checkpointRepository;
+    private final MeterRegistry registry;
+    private final int parallelism;
+
+    public MemberPartitionProcessor(PlatformTransactionManager transactionManager,
+                                    PartitionCheckpointRepository checkpointRepository,
+                                    MeterRegistry registry,
+                                    @Value("${member.partition.parallelism:4}") int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism 은 1 이상이어야 합니다. parallelism = " + parallelism);
+        }
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.checkpointRepository = checkpointRepository;
+        this.registry = registry;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @param jobName    체크포인트 키. 이미 완료된 jobName 이면 아무것도 하지 않는다.
+     * @param spec       처리 대상 조건 (null 이면 전체)
+     * @param partitions 처음 실행할 때 나눌 파티션 수 (재시작이면 저장된 파티션을 그대로 쓴다)
+     * @param handler    청크 트랜잭션 안에서 실행된다. 넘겨받은 회원을 수정하면 커밋 시 반영된다.
+     * @param listener   청크 커밋마다 호출 (여러 스레드에서 동시에 호출될 수 있음)
+     * @return 이번 실행에서 처리한 회원 수
+     */
+    public long process(String jobName, Specification<Member> spec, int partitions, int chunkSize,
+                        Consumer<List<Member>> handler, Consumer<PartitionProgress> listener) {
+        if (partitions < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("partitions, chunkSize 는 1 이상이어야 합니다. partitions = "
+                    + partitions + ", chunkSize = " + chunkSize);
+        }
+
+        List<PartitionCheckpoint> checkpoints = chunkTransaction.execute(status -> prepare(jobName, partitions));
+        List<PartitionCheckpoint> remaining = checkpoints.stream()
+                .filter(checkpoint -> checkpoint.getStatus() != PartitionCheckpoint.Status.COMPLETED)
+                .toList();
+        if (remaining.isEmpty()) {
+            return 0;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, remaining.size()));
+        try {
+            List<Future<Long>> futures = new ArrayList<>(remaining.size());
+            for (PartitionCheckpoint checkpoint : remaining) {
+                futures.add(pool.submit(() ->
+                        processPartition(checkpoint, checkpoints.size(), spec, chunkSize, handler, listener)));
+            }
+            return await(jobName, futures);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 체크포인트를 지워서 같은 jobName 으로 처음부터 다시 실행할 수 있게 한다.
+     */
+    public int reset(String jobName) {
+        return chunkTransaction.execute(status -> checkpointRepository.deleteByJobName(jobName));
+    }
+
+    private List<PartitionCheckpoint> prepare(String jobName, int partitions) {
+        List<PartitionCheckpoint> saved = checkpointRepository.findByJobNameOrderByPartitionNo(jobName);
+        if (!saved.isEmpty()) {
+            return saved;
+        }
+
+        Tuple range = em.createQuery("select min(m.id) as minId, max(m.id) as maxId from Member m", Tuple.class)
+                .getSingleResult();
+        Long minId = range.get("minId", Long.class);
+        Long maxId = range.get("maxId", Long.class);
+        if (minId == null) {
+            return List.of();
+        }
+
+        // (afterId, endId] 를 같은 폭으로 나눈다.
+        long width = Math.max(1, (maxId - minId + partitions) / partitions);
+        long afterId = minId - 1;
+        List<PartitionCheckpoint> checkpoints = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions && afterId < maxId; partition++) {
+            long endId = partition == partitions - 1 ? maxId : Math.min(afterId + width, maxId);
+            checkpoints.add(new PartitionCheckpoint(jobName, partition, afterId, endId));
+            afterId = endId;
+        }
+        return checkpointRepository.saveAll(checkpoints);
+    }
+
+    private long processPartition(PartitionCheckpoint checkpoint, int totalPartitions, Specification<Member> spec,
+                                  int chunkSize, Consumer<List<Member>> handler, Consumer<PartitionProgress> listener) {
+        String jobName = checkpoint.getJobName();
+        String partition = String.valueOf(checkpoint.getPartitionNo());
+        Timer chunkTimer = registry.timer("partition.chunk", "job", jobName);
+
+        long processed = 0;
+        long total = checkpoint.getProcessed();
+        boolean completed = false;
+        while (!completed) {
+            long start = System.nanoTime();
+            PartitionCheckpoint saved;
+            try {
+                saved = chunkTransaction.execute(status -> processChunk(checkpoint.getId(), spec, chunkSize, handler));
+            } catch (RuntimeException e) {
+                chunkTransaction.executeWithoutResult(status ->
+                        checkpointRepository.findById(checkpoint.getId()).ifPresent(PartitionCheckpoint::fail));
+                throw e;
+            }
+            chunkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            long count = saved.getProcessed() - total;
+            total = saved.getProcessed();
+            processed += count;
+            registry.counter("partition.items", "job", jobName, "partition", partition).increment(count);
+            completed = saved.getStatus() == PartitionCheckpoint.Status.COMPLETED;
+
+            PartitionProgress progress = new PartitionProgress(jobName, checkpoint.getPartitionNo(), totalPartitions,
+                    saved.getLastId(), saved.getEndId(), saved.getProcessed(), completed);
+            log.debug("partition progress = {}", progress);
+            if (listener != null) {
+                listener.accept(progress);
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * 체크포인트 다음 id 부터 chunkSize 만큼 읽어 처리하고 체크포인트를 옮긴다. (한 트랜잭션)
+     */
+    private PartitionCheckpoint processChunk(Long checkpointId, Specification<Member> spec, int chunkSize,
+                                             Consumer<List<Member>> handler) {
+        PartitionCheckpoint checkpoint = em.find(PartitionCheckpoint.class, checkpointId);
+        List<Member> members = findChunk(spec, checkpoint.getLastId(), checkpoint.getEndId(), chunkSize);
+        if (!members.isEmpty()) {
+            handler.accept(members);
+            checkpoint.advance(members.get(members.size() - 1).getId(), members.size());
+        }
+        if (members.size() < chunkSize || checkpoint.getLastId() >= checkpoint.getEndId()) {
+            checkpoint.complete();
+        }
+        return checkpoint;
+    }
+
+    private List<Member> findChunk(Specification<Member> spec, long afterId, long endId, int chunkSize) {
+        CriteriaBuilder builder = em.getCriteriaBuilder();
+        CriteriaQuery<Member> query = builder.createQuery(Member.class);
+        Root<Member> root = query.from(Member.class);
+
+        Predicate range = builder.and(
+                builder.greaterThan(root.get("id"), afterId),
+                builder.lessThanOrEqualTo(root.get("id"), endId));
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, builder);
+        query.select(root)
+                .where(predicate == null ? range : builder.and(range, predicate))
+                .orderBy(builder.asc(root.get("id")));
+        return em.createQuery(query)
+                .setMaxResults(chunkSize)
+                .getResultList();
+    }
+
+    private long await(String jobName, List<Future<Long>> futures) {
+        long processed = 0;
+        RuntimeException failure = null;
+        for (Future<Long> future : futures) {
+            try {
+                processed += future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("파티션 처리 대기 중 인터럽트. jobName = " + jobName, e);
+            } catch (ExecutionException e) {
+                RuntimeException cause = e.getCause() instanceof RuntimeException runtime
+                        ? runtime
+                        : new IllegalStateException(e.getCause());
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            // 실패한 파티션은 FAILED, 나머지는 커밋된 체크포인트까지 반영되어 있다. 같은 jobName 으로 재실행하면 이어서 처리
+            throw failure;
+        }
+        return processed;
+    }
+}
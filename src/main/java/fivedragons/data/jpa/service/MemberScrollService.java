@@ -0,0 +1,171 @@
+package fivedragons.data.jpa.service;
+
+import fivedragons.data.jpa.cache.MemberScrollCache;
+import fivedragons.data.jpa.cache.TeamBatchLoader;
+import fivedragons.data.jpa.config.AsyncConfig;
+import fivedragons.data.jpa.dto.CursorPage;
+import fivedragons.data.jpa.dto.MemberDto;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.repository.MemberCursor;
+import fivedragons.data.jpa.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 무한 스크롤 (/members/scroll)
+ * Window(keyset) 로 username, id 순서대로 읽고, 응답을 돌려주기 전에 다음 창을 memberQueryExecutor 에서 미리 읽어 MemberScrollCache 에 둔다.
+ * 클라이언트가 nextCursor 로 이어서 요청하면 미리 읽은 창을 바로 (조회 중이면 끝날 때까지 기다려서) 돌려준다.
+ *
+ * 커서 = scrollId + "." + MemberCursor (마지막 회원의 username, id)
+ * 캐시가 만료/제거되었거나 풀이 가득 차서 미리 읽지 못했으면 커서의 위치에서 직접 조회한다.
+ */
+@Slf4j
+@Service
+public class MemberScrollService {
+
+    private static final Sort SORT = Sort.by("username", "id");
+    private static final String SEPARATOR = ".";
+
+    private final MemberRepository memberRepository;
+    private final TeamBatchLoader teamBatchLoader;
+    private final MemberScrollCache scrollCache;
+    private final Executor executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry registry;
+    private final int maxSize;
+
+    public MemberScrollService(MemberRepository memberRepository,
+                               TeamBatchLoader teamBatchLoader,
+                               MemberScrollCache scrollCache,
+                               @Qualifier(AsyncConfig.MEMBER_QUERY_EXECUTOR) Executor executor,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry registry,
+                               @Value("${member.scroll.max-size:100}") int maxSize) {
+        this.memberRepository = memberRepository;
+        this.teamBatchLoader = teamBatchLoader;
+        this.scrollCache = scrollCache;
+        this.executor = executor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.registry = registry;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param cursor 처음이면 null, 이후는 직전 응답의 nextCursor
+     * @param size   창 크기 (최대 member.scroll.max-size)
+     */
+    public CursorPage<MemberDto> scroll(int age, String cursor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size 는 1 이상이어야 합니다. size = " + size);
+        }
+        int limit = Math.min(size, maxSize);
+
+        String scrollId;
+        String position;
+        if (!StringUtils.hasText(cursor)) {
+            scrollId = UUID.randomUUID().toString().replace("-", "");
+            position = null;
+        } else {
+            int index = cursor.indexOf(SEPARATOR);
+            if (index < 1) {
+                throw new IllegalArgumentException("잘못된 커서 입니다. cursor = " + cursor);
+            }
+            scrollId = cursor.substring(0, index);
+            position = cursor.substring(index + 1);
+        }
+
+        CursorPage<MemberDto> window = position == null ? null : prefetched(scrollId, key(age, limit, position));
+        if (window == null) {
+            window = fetch(age, position, limit);
+        }
+        if (!window.isHasNext()) {
+            return window;
+        }
+
+        prefetch(scrollId, age, window.getNextCursor(), limit);
+        return new CursorPage<>(window.getContent(), scrollId + SEPARATOR + window.getNextCursor(), true);
+    }
+
+    private CursorPage<MemberDto> prefetched(String scrollId, String key) {
+        CompletableFuture<CursorPage<MemberDto>> prefetched = scrollCache.take(scrollId, key);
+        if (prefetched == null) {
+            count("miss");
+            return null;
+        }
+        try {
+            CursorPage<MemberDto> window = prefetched.join();
+            count("hit");
+            return window;
+        } catch (CompletionException | CancellationException e) {
+            log.debug("prefetch failed, scrollId = {}", scrollId, e);
+            count("failed");
+            return null;
+        }
+    }
+
+    private void prefetch(String scrollId, int age, String position, int limit) {
+        // 조회 시작 전에 읽어야 조회 ~ put 사이에 커밋된 변경으로 비워진 경우를 put 에서 걸러낸다.
+        long generation = scrollCache.generation();
+        try {
+            CompletableFuture<CursorPage<MemberDto>> next =
+                    CompletableFuture.supplyAsync(() -> fetch(age, position, limit), executor);
+            if (!scrollCache.put(scrollId, key(age, limit, position), generation, next)) {
+                count("stale");
+            }
+        } catch (RejectedExecutionException e) {
+            count("rejected"); // 풀이 가득 차면 미리 읽지 않는다. 다음 요청은 직접 조회
+        }
+    }
+
+    /**
+     * nextCursor 는 scrollId 없이 MemberCursor 만 담는다.
+     */
+    private CursorPage<MemberDto> fetch(int age, String position, int limit) {
+        return readOnlyTransaction.execute(status -> {
+            Window<Member> window = memberRepository.findWindowByAgeGreaterThanEqual(age, scrollPosition(position),
+                    SORT, Limit.of(limit));
+            List<Member> members = window.getContent();
+            List<MemberDto> content = teamBatchLoader.toMemberDtos(members); // 팀은 in 쿼리 한 번
+            if (!window.hasNext() || members.isEmpty()) {
+                return new CursorPage<>(content, null, false);
+            }
+            return new CursorPage<>(content, MemberCursor.of(members.get(members.size() - 1)).encode(), true);
+        });
+    }
+
+    private static ScrollPosition scrollPosition(String position) {
+        MemberCursor cursor = MemberCursor.decode(position);
+        if (cursor == null) {
+            return ScrollPosition.keyset();
+        }
+        return ScrollPosition.forward(Map.of("username", cursor.getUsername(), "id", cursor.getId()));
+    }
+
+    private static String key(int age, int limit, String position) {
+        return age + ":" + limit + ":" + position;
+    }
+
+    private void count(String result) {
+        registry.counter("member.scroll.prefetch", "result", result).increment();
+    }
+}
@@ -1,8 +1,53 @@
 package fivedragons.data.jpa.service;
 
+import fivedragons.data.jpa.audit.AuditDateTimeProvider;
+import fivedragons.data.jpa.entity.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Transactional
+@RequiredArgsConstructor
 public class MemberService {
 
+    @PersistenceContext
+    private EntityManager em;
+
+    private final AuditDateTimeProvider auditDateTimeProvider;
+
+    /**
+     * 대량 저장
+     * batchSize 만큼 persist 후 flush/clear 해서 JDBC batch 로 한 번에 보내고, 영속성 컨텍스트가 커지지 않게 한다.
+     * id 는 시퀀스 allocationSize 단위로 미리 확보하므로 row 마다 시퀀스를 호출하지 않는다.
+     * 감사 시각은 flush 단위로 한 번만 구해서 같은 배치의 row 에 같은 값을 쓴다.
+     */
+    public long saveAllBatched(Iterable<Member> members, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize 는 1 이상이어야 합니다. batchSize = " + batchSize);
+        }
+
+        Session session = em.unwrap(Session.class);
+        Integer originalBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+        try (AuditDateTimeProvider.Batch auditBatch = auditDateTimeProvider.openBatch()) {
+            long count = 0;
+            for (Member member : members) {
+                em.persist(member);
+                if (++count % batchSize == 0) {
+                    em.flush();
+                    em.clear();
+                    auditBatch.next();
+                }
+            }
+            em.flush();
+            em.clear();
+            return count;
+        } finally {
+            session.setJdbcBatchSize(originalBatchSize);
+        }
+    }
 }
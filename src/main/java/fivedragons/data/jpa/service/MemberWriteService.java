@@ -0,0 +1,90 @@
+package fivedragons.data.jpa.service;
+
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.Team;
+import fivedragons.data.jpa.lock.ConflictRetryExecutor;
+import fivedragons.data.jpa.lock.LockStrategy;
+import fivedragons.data.jpa.lock.LockStrategyResolver;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 충돌이 잦은 회원/팀 단건 수정
+ * 작업별로 락 방식(member.lock.operations.*)을 고르고, 충돌하면 ConflictRetryExecutor 가 새 트랜잭션으로 재시도한다.
+ * 시도마다 새 트랜잭션이므로 호출한 쪽 트랜잭션과 별개로 커밋된다.
+ */
+@Service
+public class MemberWriteService {
+
+    public static final String INCREASE_AGE = "increase-age";
+    public static final String CHANGE_TEAM = "change-team";
+    public static final String RENAME_TEAM = "rename-team";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final ConflictRetryExecutor retryExecutor;
+    private final LockStrategyResolver lockStrategyResolver;
+    private final long pessimisticTimeoutMs;
+
+    public MemberWriteService(ConflictRetryExecutor retryExecutor,
+                              LockStrategyResolver lockStrategyResolver,
+                              @Value("${member.lock.pessimistic-timeout-ms:3000}") long pessimisticTimeoutMs) {
+        this.retryExecutor = retryExecutor;
+        this.lockStrategyResolver = lockStrategyResolver;
+        this.pessimisticTimeoutMs = pessimisticTimeoutMs;
+    }
+
+    public int increaseAge(Long memberId, int delta) {
+        return increaseAge(memberId, delta, lockStrategyResolver.resolve(INCREASE_AGE));
+    }
+
+    public int increaseAge(Long memberId, int delta, LockStrategy strategy) {
+        return execute(INCREASE_AGE, strategy, Member.class, memberId, member -> {
+            member.setAge(member.getAge() + delta);
+            return member.getAge();
+        });
+    }
+
+    public void changeTeam(Long memberId, Long teamId) {
+        changeTeam(memberId, teamId, lockStrategyResolver.resolve(CHANGE_TEAM));
+    }
+
+    public void changeTeam(Long memberId, Long teamId, LockStrategy strategy) {
+        execute(CHANGE_TEAM, strategy, Member.class, memberId, member -> {
+            member.changeTeam(em.getReference(Team.class, teamId));
+            return null;
+        });
+    }
+
+    public void renameTeam(Long teamId, String name) {
+        renameTeam(teamId, name, lockStrategyResolver.resolve(RENAME_TEAM));
+    }
+
+    public void renameTeam(Long teamId, String name, LockStrategy strategy) {
+        execute(RENAME_TEAM, strategy, Team.class, teamId, team -> {
+            team.setName(name);
+            return null;
+        });
+    }
+
+    private <E, T> T execute(String operation, LockStrategy strategy, Class<E> entityClass, Long id, Function<E, T> mutation) {
+        return retryExecutor.execute(operation, strategy, () -> mutation.apply(load(entityClass, id, strategy)));
+    }
+
+    private <E> E load(Class<E> entityClass, Long id, LockStrategy strategy) {
+        E entity = strategy == LockStrategy.PESSIMISTIC
+                ? em.find(entityClass, id, strategy.readLockMode(), Map.of("jakarta.persistence.lock.timeout", pessimisticTimeoutMs))
+                : em.find(entityClass, id);
+        if (entity == null) {
+            throw new EntityNotFoundException(entityClass.getSimpleName() + " 이 없습니다. id = " + id);
+        }
+        return entity;
+    }
+}
@@ -0,0 +1,55 @@
+package fivedragons.data.jpa.advisor;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Transactional
+class IndexAdvisorTest {
+
+    @Autowired IndexAdvisor indexAdvisor;
+
+    @Test
+    void analyze() {
+        // when
+        List<IndexSuggestion> suggestions = indexAdvisor.analyze();
+
+        // then
+        IndexSuggestion findByAge = find(suggestions, "MemberRepository.findByAge");
+        assertEquals(findByAge.getColumns(), List.of("age"));
+        assertTrue(findByAge.isMissing());
+
+        // (username, member_id) 인덱스가 있으므로 username 조건은 인덱스를 탄다.
+        IndexSuggestion findByUsername = find(suggestions, "MemberRepository.findByUsername");
+        assertEquals(findByUsername.getColumns(), List.of("username"));
+        assertTrue(!findByUsername.isMissing());
+
+        IndexSuggestion usernameAndAge = find(suggestions, "MemberRepository.findByUsernameAndAgeGreaterThan");
+        assertEquals(usernameAndAge.getColumns(), List.of("username", "age"));
+        // 인덱스 컬럼 순서(username, member_id)와 달라도 실행 계획이 username 인덱스를 쓰므로 누락이 아니다.
+        assertFalse(usernameAndAge.isMissing());
+    }
+
+    @Test
+    void usesIndex() {
+        assertEquals(IndexAdvisor.usesIndex("SELECT * FROM \"PUBLIC\".\"MEMBER\" /* PUBLIC.MEMBER.tableScan */ WHERE \"AGE\" = 0", "member"), false);
+        assertEquals(IndexAdvisor.usesIndex("SELECT * FROM \"PUBLIC\".\"MEMBER\" /* PUBLIC.IDX_MEMBER_USERNAME_ID: USERNAME = 'x' */ WHERE \"USERNAME\" = 'x'", "member"), true);
+        assertNull(IndexAdvisor.usesIndex("SELECT 1", "member"));
+    }
+
+    private IndexSuggestion find(List<IndexSuggestion> suggestions, String method) {
+        return suggestions.stream()
+                .filter(suggestion -> suggestion.getMethod().equals(method))
+                .findFirst()
+                .orElseThrow();
+    }
+}
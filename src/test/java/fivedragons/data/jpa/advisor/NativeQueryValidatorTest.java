@@ -0,0 +1,62 @@
+package fivedragons.data.jpa.advisor;
+
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.repository.ItemRepository;
+import fivedragons.data.jpa.repository.MemberProjection;
+import fivedragons.data.jpa.repository.MemberRepository;
+import fivedragons.data.jpa.repository.PartitionCheckpointRepository;
+import fivedragons.data.jpa.repository.TeamRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class NativeQueryValidatorTest {
+
+    @Autowired NativeQueryValidator validator;
+
+    @Test
+    void findAllRepositories() {
+        // when
+        List<Class<?>> repositories = validator.repositoryInterfaces();
+
+        // then
+        assertTrue(repositories.containsAll(List.of(MemberRepository.class, TeamRepository.class,
+                ItemRepository.class, PartitionCheckpointRepository.class)));
+    }
+
+    @Test
+    void memberRepository() {
+        // when
+        List<String> problems = validator.validate(MemberRepository.class);
+
+        // then
+        assertEquals(problems, List.of());
+    }
+
+    @Test
+    void brokenQuery() {
+        // when
+        List<String> problems = validator.validate(BrokenRepository.class);
+
+        // then - join 조건 없음, userName alias 없음
+        assertEquals(problems.size(), 2);
+        assertTrue(problems.get(0).contains("join team"));
+        assertTrue(problems.get(1).contains("MemberProjection.userName"));
+    }
+
+    interface BrokenRepository extends Repository<Member, Long> {
+
+        @Query(value = "select m.member_id as id, m.username, t.name as teamName from member m left join team t",
+                nativeQuery = true)
+        Page<MemberProjection> findByNativeProjection(Pageable pageable);
+    }
+}
@@ -0,0 +1,106 @@
+package fivedragons.data.jpa.audit;
+
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.repository.MemberRepository;
+import fivedragons.data.jpa.service.MemberService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class AuditingTest {
+
+    @Autowired MemberRepository memberRepository;
+    @Autowired MemberService memberService;
+    @Autowired EntityManager em;
+
+    @Test
+    void auditorPerTransaction() {
+        // given
+        Member member1 = memberRepository.save(new Member("auditor1", 10));
+        Member member2 = memberRepository.save(new Member("auditor2", 20));
+
+        // when
+        em.flush();
+
+        // then - 같은 트랜잭션이면 등록자를 한 번만 구한다.
+        assertNotNull(member1.getCreatedBy());
+        assertEquals(member1.getCreatedBy(), member2.getCreatedBy());
+    }
+
+    @Test
+    void batchTimestamp() {
+        // given
+        List<Member> members = List.of(new Member("batch1", 10), new Member("batch2", 20), new Member("batch3", 30));
+
+        // when
+        memberService.saveAllBatched(members, 10);
+
+        // then - 한 flush 안의 row 는 같은 시각으로 찍힌다.
+        List<LocalDateTime> createDates = memberRepository.findAllById(members.stream().map(Member::getId).toList())
+                .stream()
+                .map(Member::getCreateDate)
+                .distinct()
+                .toList();
+        assertEquals(createDates.size(), 1);
+    }
+
+    @Test
+    void coarseClock() {
+        // given
+        ManualClock clock = new ManualClock(Instant.parse("2025-07-04T00:00:00Z"));
+        CoarseAuditClock auditClock = new CoarseAuditClock(clock, Duration.ofMillis(10));
+
+        // when
+        LocalDateTime first = auditClock.now();
+        clock.advance(Duration.ofMillis(9));
+        LocalDateTime second = auditClock.now();
+        clock.advance(Duration.ofMillis(1));
+        LocalDateTime third = auditClock.now();
+
+        // then - granularity 안에서는 같은 인스턴스를 재사용
+        assertSame(first, second);
+        assertEquals(third, LocalDateTime.of(2025, 7, 4, 0, 0, 0, 10_000_000));
+    }
+
+    static class ManualClock extends Clock {
+
+        private Instant instant;
+
+        ManualClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package fivedragons.data.jpa.benchmark;
+
+import fivedragons.data.jpa.advisor.IndexAdvisor;
+import fivedragons.data.jpa.advisor.IndexSuggestion;
+import fivedragons.data.jpa.support.DatasetGenerator;
+import fivedragons.data.jpa.support.DatasetSpec;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인덱스 적용 전/후 실행 계획, 지연 시간 비교
+ * ./gradlew benchmark -Dbenchmark.scale=1000000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./build/scale/index-advisor",
+        "decorator.datasource.p6spy.enable-logging=false",
+        "logging.level.org.hibernate.SQL=warn"
+})
+class IndexAdvisorBenchmarkTest {
+
+    private static final int SCALE = Integer.getInteger("benchmark.scale", 100_000);
+    private static final int REPEAT = 20;
+
+    @Autowired IndexAdvisor indexAdvisor;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Test
+    void beforeAndAfter() {
+        new DatasetGenerator(jdbcTemplate).generate(DatasetSpec.members(SCALE));
+
+        List<IndexSuggestion> suggestions = indexAdvisor.analyze();
+        Map<String, Long> before = new LinkedHashMap<>();
+        for (IndexSuggestion suggestion : suggestions) {
+            before.put(suggestion.getMethod(), measure(suggestion.getProbeSql()));
+        }
+
+        indexAdvisor.apply(suggestions);
+
+        for (IndexSuggestion after : indexAdvisor.analyze()) {
+            IndexSuggestion previous = suggestions.stream()
+                    .filter(suggestion -> suggestion.getMethod().equals(after.getMethod()))
+                    .findFirst()
+                    .orElseThrow();
+            System.out.printf("%s %s | before = %,d us (%s) | after = %,d us%n  before plan: %s%n  after plan : %s%n",
+                    after.getMethod(), after.getColumns(),
+                    before.get(after.getMethod()), previous.isMissing() ? "missing" : "ok",
+                    measure(after.getProbeSql()),
+                    previous.getPlan().replaceAll("\\s+", " "),
+                    after.getPlan().replaceAll("\\s+", " "));
+        }
+    }
+
+    private long measure(String sql) {
+        jdbcTemplate.queryForList(sql); // warm up
+        long start = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            jdbcTemplate.queryForList(sql);
+        }
+        return (System.nanoTime() - start) / REPEAT / 1_000;
+    }
+}
@@ -0,0 +1,53 @@
+package fivedragons.data.jpa.benchmark;
+
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 저장 기준값 - jdbc batch, insert 정렬을 끄고 시퀀스 최적화를 Hibernate 기본값(pooled)으로 되돌린 saveAll
+ * MemberBatchInsertBenchmarkTest 와 rows/sec 를 비교한다.
+ * 시퀀스 allocationSize(100)는 매핑에 있어서 설정으로 되돌릴 수 없다. (기존 기본값 50 - 시퀀스 호출 수 차이는 rows / 100 수준)
+ * ./gradlew benchmark -Dbenchmark.rows=1000000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=0",
+        "spring.jpa.properties.hibernate.order_inserts=false",
+        "spring.jpa.properties.hibernate.order_updates=false",
+        "spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled"
+})
+class MemberBatchInsertBaselineBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+
+    @Autowired MemberRepository memberRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from member where username like 'bulk%'");
+    }
+
+    @Test
+    void saveAll() {
+        List<Member> members = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            members.add(new Member("bulkBaseline" + i, i % 100));
+        }
+
+        long start = System.nanoTime();
+        memberRepository.saveAll(members);
+        long nanos = System.nanoTime() - start;
+        System.out.printf("saveAll (baseline) | rows = %,d | %,d ms | %,.0f rows/sec%n",
+                ROWS, nanos / 1_000_000, ROWS / (nanos / 1_000_000_000.0));
+    }
+}
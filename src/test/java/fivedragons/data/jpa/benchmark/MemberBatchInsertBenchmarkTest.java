@@ -0,0 +1,67 @@
+package fivedragons.data.jpa.benchmark;
+
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.repository.MemberRepository;
+import fivedragons.data.jpa.service.MemberService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * saveAll vs saveAllBatched 처리량(rows/sec) 비교 (jdbc batch, pooled-lo 시퀀스 설정 적용 후)
+ * 설정 적용 전 saveAll 기준값은 MemberBatchInsertBaselineBenchmarkTest
+ * ./gradlew benchmark -Dbenchmark.rows=1000000
+ */
+@Tag("benchmark")
+@SpringBootTest
+class MemberBatchInsertBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int BATCH_SIZE = Integer.getInteger("benchmark.batchSize", 1_000);
+
+    @Autowired MemberRepository memberRepository;
+    @Autowired MemberService memberService;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from member where username like 'bulk%'");
+    }
+
+    @Test
+    void saveAllWithBatching() {
+        List<Member> members = members("bulkSaveAll");
+
+        long start = System.nanoTime();
+        memberRepository.saveAll(members);
+        print("saveAll (batching)", System.nanoTime() - start);
+    }
+
+    @Test
+    void saveAllBatched() {
+        List<Member> members = members("bulkBatched");
+
+        long start = System.nanoTime();
+        memberService.saveAllBatched(members, BATCH_SIZE);
+        print("saveAllBatched", System.nanoTime() - start);
+    }
+
+    private List<Member> members(String prefix) {
+        List<Member> members = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            members.add(new Member(prefix + i, i % 100));
+        }
+        return members;
+    }
+
+    private void print(String name, long nanos) {
+        System.out.printf("%s | rows = %,d | %,d ms | %,.0f rows/sec%n",
+                name, ROWS, nanos / 1_000_000, ROWS / (nanos / 1_000_000_000.0));
+    }
+}
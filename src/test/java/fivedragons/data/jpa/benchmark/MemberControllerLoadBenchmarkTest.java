@@ -0,0 +1,73 @@
+package fivedragons.data.jpa.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 부하 테스트 (p99, 처리량)
+ * 요청마다 커넥션을 잡도록 캐시를 타지 않는 /members/keyset 을 호출한다. (/members/{id} 는 2차 캐시에서 응답)
+ * ./gradlew benchmark -PjavaVersion=21 -Dbenchmark.virtual=true
+ * ./gradlew benchmark -Dbenchmark.virtual=false
+ */
+@Tag("benchmark")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=${benchmark.virtual:false}"
+)
+class MemberControllerLoadBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 500);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("benchmark.requests", 20);
+
+    @LocalServerPort int port;
+
+    @Test
+    void findMemberKeyset() throws Exception {
+        URI uri = URI.create("http://localhost:" + port + "/members/keyset?size=10");
+        HttpClient client = HttpClient.newHttpClient();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int c = 0; c < CLIENTS; c++) {
+            futures.add(executor.submit(() -> {
+                List<Long> latencies = new ArrayList<>(REQUESTS_PER_CLIENT);
+                for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                    long requestStart = System.nanoTime();
+                    client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding());
+                    latencies.add(System.nanoTime() - requestStart);
+                }
+                return latencies;
+            }));
+        }
+
+        List<Long> latencies = new ArrayList<>();
+        for (Future<List<Long>> future : futures) {
+            latencies.addAll(future.get());
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        Collections.sort(latencies);
+        long p99 = latencies.get((int) (latencies.size() * 0.99) - 1);
+        System.out.printf("virtual = %s | requests = %,d | throughput = %,.0f req/s | p50 = %,d us | p99 = %,d us%n",
+                System.getProperty("benchmark.virtual", "false"),
+                latencies.size(),
+                latencies.size() / (elapsed / 1_000_000_000.0),
+                latencies.get(latencies.size() / 2) / 1_000,
+                p99 / 1_000);
+    }
+}
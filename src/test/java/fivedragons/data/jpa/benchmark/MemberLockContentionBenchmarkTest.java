@@ -0,0 +1,84 @@
+package fivedragons.data.jpa.benchmark;
+
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.lock.LockStrategy;
+import fivedragons.data.jpa.repository.MemberRepository;
+import fivedragons.data.jpa.service.MemberWriteService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 핫 row 동시 수정 - 비관적 락 vs 낙관적 락 + 재시도 (처리량, p99)
+ * ./gradlew benchmark -Dbenchmark.threads=32 -Dbenchmark.hotRows=4 -Dbenchmark.updates=200
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "member.lock.retry.max-attempts=100")
+class MemberLockContentionBenchmarkTest {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final int HOT_ROWS = Integer.getInteger("benchmark.hotRows", 4);
+    private static final int UPDATES_PER_THREAD = Integer.getInteger("benchmark.updates", 100);
+
+    @Autowired MemberWriteService memberWriteService;
+    @Autowired MemberRepository memberRepository;
+
+    @ParameterizedTest
+    @EnumSource(LockStrategy.class)
+    void hotRows(LockStrategy strategy) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < HOT_ROWS; i++) {
+            ids.add(memberRepository.save(new Member("hot" + i, 0)).getId());
+        }
+
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                List<Long> latencies = new ArrayList<>(UPDATES_PER_THREAD);
+                for (int u = 0; u < UPDATES_PER_THREAD; u++) {
+                    Long id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                    long updateStart = System.nanoTime();
+                    try {
+                        memberWriteService.increaseAge(id, 1, strategy);
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                    }
+                    latencies.add(System.nanoTime() - updateStart);
+                }
+                return latencies;
+            }));
+        }
+
+        List<Long> latencies = new ArrayList<>();
+        for (Future<List<Long>> future : futures) {
+            latencies.addAll(future.get());
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+        memberRepository.deleteAllById(ids);
+
+        Collections.sort(latencies);
+        long p99 = latencies.get((int) (latencies.size() * 0.99) - 1);
+        System.out.printf("strategy = %s | threads = %d | hotRows = %d | updates = %,d | failures = %,d | throughput = %,.0f updates/s | p50 = %,d us | p99 = %,d us%n",
+                strategy, THREADS, HOT_ROWS,
+                latencies.size(),
+                failures.get(),
+                latencies.size() / (elapsed / 1_000_000_000.0),
+                latencies.get(latencies.size() / 2) / 1_000,
+                p99 / 1_000);
+    }
+}
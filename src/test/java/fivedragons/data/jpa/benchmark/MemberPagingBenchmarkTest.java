@@ -0,0 +1,82 @@
+package fivedragons.data.jpa.benchmark;
+
+import fivedragons.data.jpa.dto.CursorPage;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.repository.MemberCursor;
+import fivedragons.data.jpa.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * offset 페이징(Page) vs keyset 페이징 비교
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Transactional
+class MemberPagingBenchmarkTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int[] PAGES = {1, 100, 10_000};
+    private static final int MEMBER_COUNT = PAGE_SIZE * 10_000 + PAGE_SIZE;
+    private static final long ID_OFFSET = 10_000_000L;
+    private static final Sort SORT = Sort.by("username", "id");
+
+    @Autowired MemberRepository memberRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @PersistenceContext EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            rows.add(new Object[]{ID_OFFSET + i, String.format("member%08d", i), i % 100, 0L});
+        }
+        jdbcTemplate.batchUpdate("insert into member (member_id, username, age, version) values (?, ?, ?, ?)", rows);
+    }
+
+    @Test
+    void offsetVsKeyset() {
+        for (int page : PAGES) {
+            // offset - 앞 페이지를 모두 스캔하고 count 쿼리까지 실행
+            long start = System.nanoTime();
+            Page<Member> offsetPage = memberRepository.findAll(
+                    PageRequest.of(page - 1, PAGE_SIZE, SORT));
+            long offsetNanos = System.nanoTime() - start;
+            em.clear();
+
+            // keyset - 직전 페이지 마지막 row 의 커서에서 바로 seek
+            String cursor = page == 1 ? null : cursorBefore(page);
+            start = System.nanoTime();
+            CursorPage<Member> keysetPage = memberRepository.findKeyset(cursor, PAGE_SIZE);
+            long keysetNanos = System.nanoTime() - start;
+            em.clear();
+
+            System.out.printf("page = %,d | offset = %,d us | keyset = %,d us | same first row = %s%n",
+                    page, offsetNanos / 1_000, keysetNanos / 1_000,
+                    offsetPage.getContent().get(0).getId().equals(keysetPage.getContent().get(0).getId()));
+        }
+    }
+
+    private String cursorBefore(int page) {
+        // 이전 페이지의 마지막 row 로 커서를 만든다. (측정 구간 밖)
+        int lastIndex = (page - 1) * PAGE_SIZE - 1;
+        Member last = memberRepository.findAll(PageRequest.of(lastIndex, 1, SORT)).getContent().get(0);
+        String cursor = MemberCursor.of(last).encode();
+        em.clear();
+        return cursor;
+    }
+}
@@ -0,0 +1,66 @@
+package fivedragons.data.jpa.benchmark;
+
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.repository.MemberSpec;
+import fivedragons.data.jpa.service.MemberPartitionProcessor;
+import fivedragons.data.jpa.service.MemberService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 파티션 수(= 동시 처리 수)에 따른 처리량 (rows/sec)
+ * 커넥션 풀(기본 10)에 가까워지면 더 이상 늘지 않는다.
+ * ./gradlew benchmark -Dbenchmark.rows=1000000 -Dbenchmark.chunkSize=1000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "member.partition.parallelism=16")
+class MemberPartitionBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 200_000);
+    private static final int CHUNK_SIZE = Integer.getInteger("benchmark.chunkSize", 1_000);
+
+    @Autowired MemberPartitionProcessor memberPartitionProcessor;
+    @Autowired MemberService memberService;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        List<Member> members = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            members.add(new Member("partitionBench", i % 100));
+        }
+        memberService.saveAllBatched(members, 1_000);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from partition_checkpoint where job_name like 'partition-bench-%'");
+        jdbcTemplate.update("delete from member where username = 'partitionBench'");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 8, 16})
+    void ageRecalculation(int partitions) {
+        long start = System.nanoTime();
+        long processed = memberPartitionProcessor.process("partition-bench-" + partitions,
+                MemberSpec.username("partitionBench"), partitions, CHUNK_SIZE,
+                members -> members.forEach(member -> member.setAge(member.getAge() + 1)), null);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("partitions = %2d | cores = %d | rows = %,d | elapsed = %,d ms | throughput = %,.0f rows/s%n",
+                partitions,
+                Runtime.getRuntime().availableProcessors(),
+                processed,
+                elapsed / 1_000_000,
+                processed / (elapsed / 1_000_000_000.0));
+    }
+}
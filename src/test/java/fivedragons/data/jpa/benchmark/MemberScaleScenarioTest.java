@@ -0,0 +1,117 @@
+package fivedragons.data.jpa.benchmark;
+
+import fivedragons.data.jpa.dto.CursorPage;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.repository.MemberRepository;
+import fivedragons.data.jpa.service.MemberPageService;
+import fivedragons.data.jpa.support.DatasetGenerator;
+import fivedragons.data.jpa.support.DatasetSpec;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 대용량 시나리오 - 주요 쿼리의 지연 시간 예산, SQL 실행 횟수 검증
+ * ./gradlew benchmark -Dbenchmark.scale=1000000 -Dbenchmark.budgetMs=500
+ * 데이터는 H2 파일 DB(build/scale)에 넣는다.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./build/scale/datajpa",
+        "decorator.datasource.p6spy.enable-logging=false",
+        "logging.level.org.hibernate.SQL=warn"
+})
+class MemberScaleScenarioTest {
+
+    private static final int SCALE = Integer.getInteger("benchmark.scale", 10_000);
+    private static final long BUDGET_MS = Long.getLong("benchmark.budgetMs", 1_000);
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired MemberRepository memberRepository;
+    @Autowired MemberPageService memberPageService;
+    @Autowired EntityManagerFactory emf;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    Statistics statistics;
+    TransactionTemplate tx;
+
+    @BeforeAll
+    void generate() {
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        tx = new TransactionTemplate(transactionManager);
+        long nanos = new DatasetGenerator(jdbcTemplate).generate(DatasetSpec.members(SCALE).items(SCALE / 10));
+        System.out.printf("generated %,d members in %,d ms%n", SCALE, nanos / 1_000_000);
+    }
+
+    @Test
+    void findByUsername() {
+        scenario("findByUsername(hot)", 1, () -> memberRepository.findByUsername(DatasetGenerator.username(1)));
+    }
+
+    @Test
+    void findByAgePage() {
+        // content + count
+        scenario("findByAge(page)", 2, () -> memberRepository.findByAge(10, PageRequest.of(0, 20, Sort.by("username"))));
+    }
+
+    @Test
+    void findSliceByAge() {
+        scenario("findSliceByAge", 1, () -> memberRepository.findSliceByAge(10, PageRequest.of(0, 20, Sort.by("username"))));
+    }
+
+    @Test
+    void findKeyset() {
+        CursorPage<Member> first = tx.execute(status -> memberRepository.findKeyset(null, 20));
+        scenario("findKeyset(next)", 1, () -> memberRepository.findKeyset(first.getNextCursor(), 20));
+    }
+
+    @Test
+    void cachedCountPage() {
+        // 두 번째 요청부터는 캐시된 count 를 쓰므로 content 쿼리 1번
+        tx.execute(status -> memberPageService.findByAge(10, PageRequest.of(1, 20)));
+        scenario("MemberPageService.findByAge(cached count)", 1, () -> memberPageService.findByAge(10, PageRequest.of(1, 20)));
+    }
+
+    @Test
+    void findByNames() {
+        List<String> names = List.of(DatasetGenerator.username(1), DatasetGenerator.username(2), DatasetGenerator.username(3));
+        scenario("findByNames", 1, () -> memberRepository.findByNames(names));
+    }
+
+    @Test
+    void findByNamesGrouped() {
+        // 2,000 개 이름 -> 512 개씩 4 번 (마지막 청크는 512 로 패딩)
+        List<String> names = IntStream.rangeClosed(1, 2_000).mapToObj(DatasetGenerator::username).toList();
+        scenario("findByNamesGrouped", 4, () -> memberRepository.findByNamesGrouped(names));
+    }
+
+    private void scenario(String name, long maxStatements, Supplier<Object> query) {
+        statistics.clear();
+        long start = System.nanoTime();
+        tx.execute(status -> query.get());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        long statements = statistics.getPrepareStatementCount();
+
+        System.out.printf("scale = %,d | %s | %,d ms | statements = %d%n", SCALE, name, elapsedMs, statements);
+        assertTrue(statements <= maxStatements, name + " statements = " + statements);
+        assertTrue(elapsedMs <= BUDGET_MS, name + " took " + elapsedMs + "ms (budget " + BUDGET_MS + "ms)");
+    }
+}
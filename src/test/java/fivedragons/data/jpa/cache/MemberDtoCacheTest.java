@@ -0,0 +1,170 @@
+package fivedragons.data.jpa.cache;
+
+import fivedragons.data.jpa.dto.MemberDto;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.Team;
+import fivedragons.data.jpa.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@SpringBootTest
+@Transactional
+class MemberDtoCacheTest {
+
+    @Autowired MemberDtoCache memberDtoCache;
+    @Autowired MemberRepository memberRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+    @PersistenceContext EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        memberDtoCache.clear();
+    }
+
+    @Test
+    void cachePage() {
+        // given
+        PageRequest pageRequest = PageRequest.of(0, 5);
+
+        // when
+        Page<MemberDto> first = memberDtoCache.getPage(pageRequest, () -> memberRepository.findMemberDtoPage(pageRequest));
+        Page<MemberDto> second = memberDtoCache.getPage(pageRequest, () -> memberRepository.findMemberDtoPage(pageRequest));
+
+        // then
+        assertSame(first, second);
+    }
+
+    @Test
+    void invalidateOnMemberUpdate() {
+        // given
+        Member member = memberRepository.save(new Member("cache1", 10));
+        em.flush();
+        memberDtoCache.get(member.getId(), memberRepository::findById);
+
+        // when - @PostUpdate
+        member.setUsername("cache2");
+        em.flush();
+
+        // then
+        MemberDto dto = memberDtoCache.get(member.getId(), memberRepository::findById).get();
+        assertEquals(dto.getUsername(), "cache2");
+    }
+
+    @Test
+    void invalidateOnTeamUpdate() {
+        // given
+        Team team = new Team("teamA");
+        em.persist(team);
+        Member member = memberRepository.save(new Member("cache1", 10, team));
+        em.flush();
+        memberDtoCache.get(member.getId(), memberRepository::findById);
+
+        // when - 팀 이름 변경 시 그 팀 회원의 DTO 만 제거
+        team.setName("teamB");
+        em.flush();
+
+        // then
+        MemberDto dto = memberDtoCache.get(member.getId(), memberRepository::findById).get();
+        assertEquals(dto.getTeamName(), "teamB");
+    }
+
+    @Test
+    void pruneTeamIndexOnEviction() {
+        // given - 단건 캐시 1개
+        MemberDtoCache cache = new MemberDtoCache(1, 1, 60_000);
+        Team team = new Team("teamA");
+        em.persist(team);
+        Member first = memberRepository.save(new Member("cache1", 10, team));
+        Member second = memberRepository.save(new Member("cache2", 10, team));
+        em.flush();
+
+        // when
+        cache.get(first.getId(), memberRepository::findById);
+        cache.get(second.getId(), memberRepository::findById);
+
+        // then - 밀려난 회원은 팀 인덱스에도 없다.
+        assertEquals(cache.indexedMembers(), 1);
+    }
+
+    @Test
+    void dropLoadInvalidatedWhileLoading() {
+        // given - 조회 도중 다른 트랜잭션이 커밋해서 무효화
+        MemberDtoCache cache = new MemberDtoCache(10, 10, 60_000);
+        AtomicInteger loads = new AtomicInteger();
+        Function<Long, Optional<Member>> loader = id -> {
+            if (loads.incrementAndGet() == 1) {
+                cache.memberChanged(id);
+            }
+            return Optional.of(new Member("stale" + loads.get(), 10));
+        };
+
+        // when
+        cache.get(1L, loader);
+        MemberDto dto = cache.get(1L, loader).get();
+
+        // then - 첫 조회 결과는 캐시에 넣지 않았으므로 다시 조회
+        assertEquals(loads.get(), 2);
+        assertEquals(dto.getUsername(), "stale2");
+    }
+
+    @Test
+    void expireAfterTtl() throws InterruptedException {
+        // given
+        MemberDtoCache cache = new MemberDtoCache(10, 10, 0);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return Optional.of(new Member("ttl", 10));
+        });
+
+        // when
+        Thread.sleep(5);
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return Optional.of(new Member("ttl", 10));
+        });
+
+        // then
+        assertEquals(loads.get(), 2);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void invalidateOnRollback() {
+        // given
+        Member member = memberRepository.save(new Member("cacheRollback", 10));
+
+        try {
+            // when - flush 후 같은 트랜잭션에서 커밋 안 된 값을 캐시에 올리고 롤백
+            transactionTemplate.executeWithoutResult(status -> {
+                Member managed = memberRepository.findById(member.getId()).get();
+                managed.setUsername("cacheUncommitted");
+                em.flush();
+                memberDtoCache.get(member.getId(), memberRepository::findById);
+                status.setRollbackOnly();
+            });
+
+            // then
+            MemberDto dto = memberDtoCache.get(member.getId(), memberRepository::findById).get();
+            assertEquals(dto.getUsername(), "cacheRollback");
+        } finally {
+            memberRepository.deleteById(member.getId());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package fivedragons.data.jpa.cache;
+
+import fivedragons.data.jpa.dto.CursorPage;
+import fivedragons.data.jpa.dto.MemberDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberScrollCacheTest {
+
+    @Test
+    void takeOnce() {
+        // given
+        MemberScrollCache cache = new MemberScrollCache(10, 30_000);
+        CompletableFuture<CursorPage<MemberDto>> window = window();
+        cache.put("s1", "k1", cache.generation(), window);
+
+        // when
+        CompletableFuture<CursorPage<MemberDto>> other = cache.take("s1", "k2");
+        CompletableFuture<CursorPage<MemberDto>> again = cache.take("s1", "k1");
+
+        // then - 다른 위치를 요청하면 버린다.
+        assertNull(other);
+        assertNull(again);
+        assertTrue(window.isCancelled());
+    }
+
+    @Test
+    void evictOldestCursor() {
+        // given
+        MemberScrollCache cache = new MemberScrollCache(2, 30_000);
+        CompletableFuture<CursorPage<MemberDto>> first = window();
+
+        // when
+        cache.put("s1", "k", cache.generation(), first);
+        cache.put("s2", "k", cache.generation(), window());
+        cache.put("s3", "k", cache.generation(), window());
+
+        // then
+        assertEquals(cache.size(), 2);
+        assertTrue(first.isCancelled());
+        assertNull(cache.take("s1", "k"));
+        assertNotNull(cache.take("s3", "k"));
+    }
+
+    @Test
+    void evictAbandonedCursor() throws InterruptedException {
+        // given
+        MemberScrollCache cache = new MemberScrollCache(10, 0);
+        CompletableFuture<CursorPage<MemberDto>> window = window();
+        cache.put("s1", "k", cache.generation(), window);
+
+        // when
+        Thread.sleep(5);
+
+        // then
+        assertEquals(cache.size(), 0);
+        assertTrue(window.isCancelled());
+    }
+
+    @Test
+    void rejectStaleGeneration() {
+        // given - 조회를 시작한 뒤 커밋으로 비워짐
+        MemberScrollCache cache = new MemberScrollCache(10, 30_000);
+        long generation = cache.generation();
+        cache.clear();
+        CompletableFuture<CursorPage<MemberDto>> window = window();
+
+        // when
+        boolean put = cache.put("s1", "k", generation, window);
+
+        // then
+        assertFalse(put);
+        assertTrue(window.isCancelled());
+        assertNull(cache.take("s1", "k"));
+    }
+
+    private static CompletableFuture<CursorPage<MemberDto>> window() {
+        return new CompletableFuture<>();
+    }
+}
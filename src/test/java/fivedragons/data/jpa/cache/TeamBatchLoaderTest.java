@@ -0,0 +1,94 @@
+package fivedragons.data.jpa.cache;
+
+import fivedragons.data.jpa.dto.MemberDto;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.Team;
+import fivedragons.data.jpa.repository.NestedClosedProjections;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+@Transactional
+class TeamBatchLoaderTest {
+
+    @Autowired TeamBatchLoader teamBatchLoader;
+    @Autowired EntityManager em;
+    @Autowired EntityManagerFactory emf;
+
+    Statistics statistics;
+    List<Member> members;
+
+    @BeforeEach
+    void setUp() {
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+
+        List<Long> ids = new ArrayList<>();
+        for (int t = 0; t < 3; t++) {
+            Team team = new Team("loaderTeam" + t);
+            em.persist(team);
+            for (int m = 0; m < 2; m++) {
+                Member member = new Member("loader" + t + "_" + m, 10, team);
+                em.persist(member);
+                ids.add(member.getId());
+            }
+        }
+        Member noTeam = new Member("loaderNoTeam", 10);
+        em.persist(noTeam);
+        ids.add(noTeam.getId());
+        em.flush();
+        em.clear();
+
+        members = em.createQuery("select m from Member m where m.id in :ids order by m.id", Member.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    @Test
+    void toMemberDtos() {
+        // given
+        statistics.clear();
+
+        // when
+        List<MemberDto> dtos = teamBatchLoader.toMemberDtos(members);
+        List<MemberDto> again = teamBatchLoader.toMemberDtos(members);
+
+        // then - 팀 3개를 in 쿼리 한 번으로, 두 번째는 트랜잭션 캐시에서
+        assertEquals(statistics.getPrepareStatementCount(), 1L);
+        assertEquals(dtos.get(0).getTeamName(), "loaderTeam0");
+        assertEquals(dtos.get(5).getTeamName(), "loaderTeam2");
+        assertNull(dtos.get(6).getTeamName());
+        assertEquals(again, dtos);
+    }
+
+    @Test
+    void teamInfo() {
+        // given
+        statistics.clear();
+
+        // when - id 만 등록
+        List<NestedClosedProjections.TeamInfo> infos = members.stream()
+                .filter(member -> member.getTeam() != null)
+                .map(member -> teamBatchLoader.teamInfo(member.getTeam().getId()))
+                .toList();
+        long beforeRead = statistics.getPrepareStatementCount();
+        List<String> names = infos.stream().map(NestedClosedProjections.TeamInfo::getName).distinct().toList();
+
+        // then
+        assertEquals(beforeRead, 0L);
+        assertEquals(statistics.getPrepareStatementCount(), 1L);
+        assertEquals(names, List.of("loaderTeam0", "loaderTeam1", "loaderTeam2"));
+    }
+}
@@ -0,0 +1,43 @@
+package fivedragons.data.jpa.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MemberControllerTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @Test
+    void keysetBadCursor() throws Exception {
+        mockMvc.perform(get("/members/keyset").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/members2/keyset").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void keysetBadSize() throws Exception {
+        mockMvc.perform(get("/members/keyset").param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void memberDtoNotFound() throws Exception {
+        mockMvc.perform(get("/members/dto/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void scrollBadCursor() throws Exception {
+        mockMvc.perform(get("/members/scroll").param("cursor", "no-separator"))
+                .andExpect(status().isBadRequest());
+    }
+}
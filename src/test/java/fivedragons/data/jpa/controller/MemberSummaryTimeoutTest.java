@@ -0,0 +1,99 @@
+package fivedragons.data.jpa.controller;
+
+import fivedragons.data.jpa.dto.MemberDto;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.Team;
+import fivedragons.data.jpa.repository.MemberRepository;
+import fivedragons.data.jpa.repository.TeamRepository;
+import fivedragons.data.jpa.service.MemberAsyncService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /members/summary 시간 초과 - 작업 스레드 1개에서 첫 조회가 4초 걸리면 나머지 두 조회는 큐에서 기다리다 취소된다.
+ */
+@SpringBootTest(properties = "member.async.pool-size=1")
+@AutoConfigureMockMvc
+class MemberSummaryTimeoutTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired SlowMemberAsyncService slowMemberAsyncService;
+
+    @Test
+    void cancelQueuedQueriesOnTimeout() throws Exception {
+        // when
+        mockMvc.perform(get("/members/summary").param("age", "10"))
+                .andExpect(status().isServiceUnavailable());
+
+        // then - 느린 조회가 끝나서 스레드가 비어도 취소된 작업은 시작하지 않는다.
+        assertTrue(slowMemberAsyncService.slowFinished.await(10, TimeUnit.SECONDS));
+        Thread.sleep(300);
+        assertEquals(slowMemberAsyncService.queuedStarted.get(), 0);
+    }
+
+    @TestConfiguration
+    static class SlowQueryConfig {
+
+        @Bean
+        @Primary
+        SlowMemberAsyncService slowMemberAsyncService(MemberRepository memberRepository,
+                                                      TeamRepository teamRepository) {
+            return new SlowMemberAsyncService(memberRepository, teamRepository);
+        }
+    }
+
+    // @Async, @Transactional 은 MemberAsyncService 에서 상속
+    static class SlowMemberAsyncService extends MemberAsyncService {
+
+        final CountDownLatch slowFinished = new CountDownLatch(1);
+        final AtomicInteger queuedStarted = new AtomicInteger();
+
+        SlowMemberAsyncService(MemberRepository memberRepository, TeamRepository teamRepository) {
+            super(memberRepository, teamRepository);
+        }
+
+        @Override
+        public CompletableFuture<Page<Member>> findByAge(int age, Pageable pageable) {
+            try {
+                Thread.sleep(4_000);
+                return super.findByAge(age, pageable);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                slowFinished.countDown();
+            }
+        }
+
+        @Override
+        public CompletableFuture<List<MemberDto>> findMemberDto() {
+            queuedStarted.incrementAndGet();
+            return super.findMemberDto();
+        }
+
+        @Override
+        public CompletableFuture<List<Team>> findTeams() {
+            queuedStarted.incrementAndGet();
+            return super.findTeams();
+        }
+    }
+}
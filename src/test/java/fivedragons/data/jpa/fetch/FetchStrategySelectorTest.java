@@ -0,0 +1,112 @@
+package fivedragons.data.jpa.fetch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FetchStrategySelectorTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    FetchStrategySelector selector = new FetchStrategySelector(registry, 10, 0.5);
+
+    @Test
+    void exploreEachStrategyFirst() {
+        // when
+        List<FetchStrategy> selected = new ArrayList<>();
+        for (int i = 0; i < FetchStrategy.values().length; i++) {
+            FetchStrategy strategy = selector.select("op");
+            selector.recordExecution("op", strategy, 1_000, 10, 2);
+            selected.add(strategy);
+        }
+
+        // then
+        assertEquals(selected, List.of(FetchStrategy.values()));
+        assertEquals(registry.counter("fetch.strategy.decisions",
+                "operation", "op", "strategy", "subselect", "reason", "explore").count(), 1.0);
+        assertEquals(selector.statsOf("op").resultSize(), 10.0);
+        assertEquals(selector.statsOf("op").teamCardinality(), 0.2);
+    }
+
+    @Test
+    void exploitFastest() {
+        // given - subselect 가 가장 빠르고, 팀 접근률이 높아서 lazy 는 후보가 아님
+        record("op", FetchStrategy.JOIN_FETCH, 3_000);
+        record("op", FetchStrategy.ENTITY_GRAPH, 3_000);
+        record("op", FetchStrategy.SUBSELECT, 2_000);
+        record("op", FetchStrategy.LAZY_BATCH, 1_000);
+        selector.recordLazyUse("op", 10, true, 0);
+
+        // when
+        FetchStrategy selected = selector.select("op");
+
+        // then
+        assertEquals(selected, FetchStrategy.SUBSELECT);
+        assertEquals(registry.counter("fetch.strategy.decisions",
+                "operation", "op", "strategy", "subselect", "reason", "exploit").count(), 1.0);
+    }
+
+    @Test
+    void lazyWhenAssociationRarelyUsed() {
+        // given
+        record("op", FetchStrategy.JOIN_FETCH, 3_000);
+        record("op", FetchStrategy.ENTITY_GRAPH, 3_000);
+        record("op", FetchStrategy.SUBSELECT, 2_000);
+        record("op", FetchStrategy.LAZY_BATCH, 1_000);
+        selector.recordLazyUse("op", 10, false, 0);
+
+        // when
+        FetchStrategy selected = selector.select("op");
+
+        // then
+        assertEquals(selected, FetchStrategy.LAZY_BATCH);
+        assertEquals(selector.statsOf("op").hitRatio(), 0.0);
+    }
+
+    @Test
+    void lazyIncludesDeferredCost() {
+        // given - 접근률은 기준 미만(약 0.41)이지만 접근했을 때의 팀 조회 비용이 커서 lazy + 지연 비용(약 2_048)이 subselect 보다 느림
+        record("op", FetchStrategy.JOIN_FETCH, 3_000);
+        record("op", FetchStrategy.ENTITY_GRAPH, 3_000);
+        record("op", FetchStrategy.SUBSELECT, 2_000);
+        record("op", FetchStrategy.LAZY_BATCH, 1_000);
+        selector.recordLazyUse("op", 10, true, 5_000);
+        for (int i = 0; i < 4; i++) {
+            selector.recordLazyUse("op", 10, false, 0);
+        }
+
+        // when
+        FetchStrategy selected = selector.select("op");
+
+        // then
+        assertTrue(selector.statsOf("op").hitRatio() < 0.5);
+        assertEquals(selected, FetchStrategy.SUBSELECT);
+        assertEquals(registry.timer("fetch.lazy.deferred", "operation", "op").count(), 5L);
+    }
+
+    @Test
+    void reexplorePeriodically() {
+        // given
+        for (FetchStrategy strategy : FetchStrategy.values()) {
+            record("op", strategy, strategy == FetchStrategy.JOIN_FETCH ? 1_000 : 5_000);
+        }
+
+        // when - 처음 9번은 exploit, 10번째는 다른 전략을 다시 측정
+        List<FetchStrategy> selected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            selected.add(selector.select("op"));
+        }
+
+        // then
+        assertEquals(selected.subList(0, 9).stream().distinct().toList(), List.of(FetchStrategy.JOIN_FETCH));
+        assertEquals(registry.counter("fetch.strategy.decisions",
+                "operation", "op", "strategy", "join-fetch", "reason", "explore").count(), 1.0);
+    }
+
+    private void record(String operation, FetchStrategy strategy, long nanos) {
+        selector.recordExecution(operation, strategy, nanos, 10, 2);
+    }
+}
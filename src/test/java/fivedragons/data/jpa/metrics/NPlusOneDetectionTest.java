@@ -0,0 +1,100 @@
+package fivedragons.data.jpa.metrics;
+
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 서비스 호출 단위 N+1 감지 (metrics.sql.n-plus-one-threshold = 5)
+ */
+@SpringBootTest
+@Import(NPlusOneDetectionTest.LoopService.class)
+@Transactional
+class NPlusOneDetectionTest {
+
+    @Autowired LoopService loopService;
+    @Autowired MeterRegistry registry;
+
+    @Test
+    void repeatedSelect() {
+        // given
+        double before = nPlusOne("selectEach");
+
+        // when - 바인딩 값만 다른 select 6번
+        loopService.selectEach(6);
+
+        // then
+        assertEquals(nPlusOne("selectEach") - before, 1.0);
+    }
+
+    @Test
+    void belowThreshold() {
+        // given
+        double before = nPlusOne("selectEach");
+
+        // when
+        loopService.selectEach(4);
+
+        // then
+        assertEquals(nPlusOne("selectEach") - before, 0.0);
+    }
+
+    @Test
+    void rowByRowInsertIsNotNPlusOne() {
+        // given
+        double before = nPlusOne("insertEach");
+
+        // when - row 마다 insert + flush 6번
+        loopService.insertEach(6);
+
+        // then
+        assertEquals(nPlusOne("insertEach") - before, 0.0);
+    }
+
+    @Test
+    void isQuery() {
+        assertTrue(SqlMetricsListener.isQuery("  select m1_0.member_id from member m1_0"));
+        assertTrue(SqlMetricsListener.isQuery("WITH t as (select 1) select * from t"));
+        assertFalse(SqlMetricsListener.isQuery("insert into member (age, member_id) values (?, ?)"));
+        assertFalse(SqlMetricsListener.isQuery("update member set age=? where member_id=?"));
+    }
+
+    private double nPlusOne(String method) {
+        Counter counter = registry.find("repository.sql.n_plus_one")
+                .tag("repository", "LoopService")
+                .tag("method", method)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Service
+    @RequiredArgsConstructor
+    static class LoopService {
+
+        private final MemberRepository memberRepository;
+
+        public void selectEach(int times) {
+            for (int i = 0; i < times; i++) {
+                memberRepository.findUser("nPlusOne" + i, 10);
+            }
+        }
+
+        public void insertEach(int times) {
+            for (int i = 0; i < times; i++) {
+                memberRepository.saveAndFlush(new Member("nPlusOneInsert" + i, 10));
+            }
+        }
+    }
+}
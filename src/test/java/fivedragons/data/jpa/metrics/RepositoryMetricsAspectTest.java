@@ -0,0 +1,45 @@
+package fivedragons.data.jpa.metrics;
+
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.repository.MemberRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Transactional
+class RepositoryMetricsAspectTest {
+
+    @Autowired MemberRepository memberRepository;
+    @Autowired MeterRegistry registry;
+
+    @Test
+    void recordStatementsAndRows() {
+        // given
+        memberRepository.save(new Member("metrics1", 10));
+        memberRepository.save(new Member("metrics1", 20));
+
+        // when
+        memberRepository.findUser("metrics1", 10);
+
+        // then
+        DistributionSummary statements = registry.find("repository.sql.statements")
+                .tag("repository", "MemberRepository")
+                .tag("method", "findUser")
+                .summary();
+        DistributionSummary rows = registry.find("repository.sql.rows")
+                .tag("repository", "MemberRepository")
+                .tag("method", "findUser")
+                .summary();
+        assertNotNull(statements);
+        assertTrue(statements.totalAmount() >= 2); // auto flush insert + select
+        assertEquals(rows.max(), 1.0);
+    }
+}
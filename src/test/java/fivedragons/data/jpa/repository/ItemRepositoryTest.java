@@ -1,14 +1,21 @@
 package fivedragons.data.jpa.repository;
 
 import fivedragons.data.jpa.entity.Item;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 class ItemRepositoryTest {
 
     @Autowired ItemRepository itemRepository;
+    @Autowired EntityManager em;
 
     @Test
     void save() {
@@ -16,4 +23,51 @@ class ItemRepositoryTest {
         Item item = new Item("A001");
         itemRepository.save(item);
     }
-}
\ No newline at end of file
+
+    @Test
+    @Transactional
+    void saveIsNew() {
+        // given
+        Item item = new Item("A002");
+        assertTrue(item.isNew());
+
+        // when
+        itemRepository.save(item);
+
+        // then
+        assertNotNull(item.getCreatedDate());
+        assertFalse(item.isNew());
+    }
+
+    @Test
+    @Transactional
+    void insertAll() {
+        // given
+        List<Item> items = List.of(new Item("B001"), new Item("B002"), new Item("B003"));
+
+        // when
+        long count = itemRepository.insertAll(items, 2);
+
+        // then
+        assertEquals(count, 3);
+        assertTrue(itemRepository.findById("B002").isPresent());
+        assertNotNull(itemRepository.findById("B003").get().getCreatedDate());
+    }
+
+    @Test
+    @Transactional
+    void insertIfAbsentAll() {
+        // given
+        itemRepository.insertAll(List.of(new Item("C001")), 10);
+        Item saved = itemRepository.findById("C001").get();
+        em.clear();
+
+        // when
+        long count = itemRepository.insertIfAbsentAll(List.of(new Item("C001"), new Item("C002")), 10);
+
+        // then - 이미 있는 C001 은 세지 않는다.
+        assertEquals(count, 1);
+        assertEquals(itemRepository.findById("C001").get().getCreatedDate(), saved.getCreatedDate());
+        assertTrue(itemRepository.findById("C002").isPresent());
+    }
+}
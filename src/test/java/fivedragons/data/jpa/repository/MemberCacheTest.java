@@ -0,0 +1,92 @@
+package fivedragons.data.jpa.repository;
+
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.Team;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 2차 캐시는 트랜잭션이 커밋되어야 반영되므로 테스트 메서드 단위 롤백(@Transactional)을 쓰지 않는다.
+ */
+@SpringBootTest
+class MemberCacheTest {
+
+    @Autowired MemberRepository memberRepository;
+    @Autowired TeamRepository teamRepository;
+    @Autowired EntityManagerFactory emf;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    TransactionTemplate tx;
+    Statistics statistics;
+    Long memberId;
+    Long teamId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        tx.executeWithoutResult(status -> {
+            Team team = teamRepository.save(new Team("cacheTeam"));
+            Member member = memberRepository.save(new Member("cacheMember", 1000, team));
+            teamId = team.getId();
+            memberId = member.getId();
+        });
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        tx.executeWithoutResult(status -> {
+            memberRepository.deleteById(memberId);
+            teamRepository.deleteById(teamId);
+        });
+    }
+
+    @Test
+    void findByIdHitsSecondLevelCache() {
+        // when
+        tx.executeWithoutResult(status -> memberRepository.findById(memberId).get().getTeam().getName());
+        tx.executeWithoutResult(status -> memberRepository.findById(memberId).get().getTeam().getName());
+
+        // then
+        assertTrue(statistics.getDomainDataRegionStatistics("member").getHitCount() >= 1);
+        assertTrue(statistics.getDomainDataRegionStatistics("team").getHitCount() >= 1);
+    }
+
+    @Test
+    void queryCacheHit() {
+        // when
+        tx.executeWithoutResult(status -> memberRepository.findByUsername("cacheMember"));
+        tx.executeWithoutResult(status -> memberRepository.findByUsername("cacheMember"));
+
+        // then
+        assertEquals(statistics.getQueryRegionStatistics("member-by-username").getHitCount(), 1L);
+    }
+
+    @Test
+    void bulkUpdateInvalidatesCache() {
+        // given - 엔티티, 쿼리 캐시에 올려둔다.
+        tx.executeWithoutResult(status -> memberRepository.findById(memberId));
+        tx.executeWithoutResult(status -> memberRepository.findByUsername("cacheMember"));
+
+        // when
+        tx.executeWithoutResult(status -> memberRepository.bulkAgePlus(1000));
+
+        // then - bulk 쿼리 후에는 캐시된 값이 아니라 변경된 값을 읽어야 한다.
+        int ageById = tx.execute(status -> memberRepository.findById(memberId).get().getAge());
+        int ageByUsername = tx.execute(status -> memberRepository.findByUsername("cacheMember").get(0).getAge());
+        assertEquals(ageById, 1001);
+        assertEquals(ageByUsername, 1001);
+    }
+}
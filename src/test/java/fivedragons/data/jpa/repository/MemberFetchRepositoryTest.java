@@ -0,0 +1,89 @@
+package fivedragons.data.jpa.repository;
+
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.Team;
+import fivedragons.data.jpa.fetch.FetchStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class MemberFetchRepositoryTest {
+
+    @Autowired MemberRepository memberRepository;
+    @Autowired MeterRegistry registry;
+    @Autowired EntityManager em;
+    @Autowired EntityManagerFactory emf;
+
+    Statistics statistics;
+    Specification<Member> spec;
+    String operation;
+
+    @BeforeEach
+    void setUp() {
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        operation = "fetch-test-" + UUID.randomUUID();
+
+        Team teamA = new Team("fetchTeamA");
+        Team teamB = new Team("fetchTeamB");
+        em.persist(teamA);
+        em.persist(teamB);
+        for (int i = 0; i < 6; i++) {
+            em.persist(new Member("fetch" + i, 20 + i, i % 2 == 0 ? teamA : teamB));
+        }
+        em.flush();
+        em.clear();
+
+        spec = MemberSpec.teamId(teamA.getId()).or(MemberSpec.teamId(teamB.getId()));
+    }
+
+    @Test
+    void eachStrategyLoadsTeams() {
+        // 처음 4번은 전략을 하나씩 실행해 본다.
+        for (FetchStrategy expected : FetchStrategy.values()) {
+            // given
+            em.clear();
+            emf.getCache().evict(Team.class); // 앞 단계에서 2차 캐시에 올라간 팀을 쓰지 않게
+            statistics.clear();
+
+            // when
+            List<Member> members = memberRepository.findAllWithTeam(operation, spec);
+
+            // then
+            assertEquals(members.size(), 6);
+            assertEquals(registry.counter("fetch.strategy.decisions",
+                    "operation", operation, "strategy", expected.tag(), "reason", "explore").count(), 1.0);
+            if (expected == FetchStrategy.LAZY_BATCH) {
+                assertFalse(Hibernate.isInitialized(members.get(0).getTeam()));
+                assertEquals(statistics.getPrepareStatementCount(), 1L);
+            } else {
+                assertTrue(members.stream().allMatch(member -> Hibernate.isInitialized(member.getTeam())));
+                assertEquals(statistics.getPrepareStatementCount(), expected == FetchStrategy.SUBSELECT ? 2L : 1L);
+            }
+
+            // 팀 이름 접근 - lazy 는 팀 2개를 배치 한 번으로
+            members.forEach(member -> member.getTeam().getName());
+            assertEquals(statistics.getPrepareStatementCount(), expected == FetchStrategy.JOIN_FETCH
+                    || expected == FetchStrategy.ENTITY_GRAPH ? 1L : 2L);
+        }
+
+        assertEquals(registry.get("fetch.strategy.latency").tag("operation", operation).timers().size(), 4);
+        assertEquals(registry.get("fetch.result.size").tag("operation", operation).summary().count(), 4L);
+        assertEquals(registry.get("fetch.team.cardinality").tag("operation", operation).gauge().value(), 2.0 / 6, 1e-9);
+    }
+}
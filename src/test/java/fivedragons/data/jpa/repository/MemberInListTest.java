@@ -0,0 +1,61 @@
+package fivedragons.data.jpa.repository;
+
+import fivedragons.data.jpa.entity.Member;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * chunk-size=2 로 청크를 여러 개 만든다.
+ * 병렬 조회는 호출 스레드에 트랜잭션이 없을 때만 하므로 테스트 롤백(@Transactional)을 쓰지 않는다.
+ */
+@SpringBootTest(properties = "member.in-list.chunk-size=2")
+class MemberInListTest {
+
+    private static final List<String> NAMES = List.of("inA", "inB", "inC", "inD", "inE");
+
+    @Autowired MemberRepository memberRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAll(memberRepository.findByNames(NAMES));
+    }
+
+    @Test
+    void findByNamesGroupedInParallel() {
+        // given
+        memberRepository.saveAll(List.of(new Member("inA", 10), new Member("inA", 20), new Member("inC", 30), new Member("inE", 40)));
+
+        // when - 중복된 이름, 없는 이름 포함
+        Map<String, List<Member>> result = memberRepository.findByNamesGrouped(List.of("inA", "inB", "inC", "inA", "inD", "inE"));
+
+        // then
+        assertEquals(List.copyOf(result.keySet()), NAMES);
+        assertEquals(result.get("inA").size(), 2);
+        assertEquals(result.get("inB").size(), 0);
+        assertEquals(result.get("inC").size(), 1);
+        assertEquals(result.get("inE").size(), 1);
+    }
+
+    @Test
+    void findByNamesGroupedInTransaction() {
+        // given
+        memberRepository.saveAll(List.of(new Member("inB", 10), new Member("inD", 20)));
+
+        // when - 트랜잭션 안에서는 호출 스레드의 영속성 컨텍스트로 순서대로 조회
+        Map<String, List<Member>> result = transactionTemplate.execute(status -> memberRepository.findByNamesGrouped(NAMES));
+
+        // then
+        assertEquals(result.get("inB").size(), 1);
+        assertEquals(result.get("inD").size(), 1);
+        assertEquals(result.values().stream().mapToInt(List::size).sum(), 2);
+    }
+}
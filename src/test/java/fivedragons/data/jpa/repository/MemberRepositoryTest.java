@@ -1,10 +1,14 @@
 package fivedragons.data.jpa.repository;
 
+import fivedragons.data.jpa.dto.CursorPage;
 import fivedragons.data.jpa.dto.MemberDto;
 import fivedragons.data.jpa.entity.Member;
 import fivedragons.data.jpa.entity.Team;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,9 +22,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -254,6 +260,7 @@ class MemberRepositoryTest {
 
         // then
         assertEquals(result, 3);
+        assertEquals(member5.getVersion(), Long.valueOf(1)); // update versioned
     }
 
     @Test
@@ -419,6 +426,7 @@ class MemberRepositoryTest {
 
         // then
         Assertions.assertEquals(result.get(0).getUsername(), m1.getUsername() + " " + m1.getAge());
+        Assertions.assertEquals(result.get(0).getClass(), UsernameOnlyView.class); // 프록시가 아닌 구현 클래스
     }
 
     @Test
@@ -466,6 +474,10 @@ class MemberRepositoryTest {
         for (NestedClosedProjections o : result) {
             System.out.println("userName = " + o.getUsername() + " teamName = " + o.getTeam().getName());
         }
+
+        // then
+        Assertions.assertEquals(result.get(0).getTeam().getName(), teamA.getName());
+        Assertions.assertEquals(result.get(0).getClass(), NestedClosedProjectionsView.class);
     }
 
     @Test
@@ -509,6 +521,130 @@ class MemberRepositoryTest {
             System.out.println("memberProjection = " + m.getUserName() + " teamName = " + m.getTeamName());
         }
 
+        // then - join 조건이 있으므로 회원이 팀 수만큼 중복되지 않는다.
+        Assertions.assertEquals(result.getContent().stream().map(MemberProjection::getId).distinct().count(),
+                (long) result.getContent().size());
+        Assertions.assertTrue(result.getContent().stream().allMatch(m -> m.getUserName() != null));
+    }
+
+    @Test
+    void findNativeProjectionRows() {
+        // given
+        Team teamA = new Team("teamA");
+        em.persist(teamA);
+        em.persist(new Member("m1", 0, teamA));
+        em.persist(new Member("m2", 0));
+
+        em.flush();
+        em.clear();
+
+        // when
+        Page<MemberProjection> rows = memberRepository.findNativeProjectionRows(PageRequest.of(0, 1000, Sort.by("userName")));
+        Page<MemberProjection> proxies = memberRepository.findByNativeProjection(PageRequest.of(0, 1000));
+
+        // then
+        Assertions.assertEquals(rows.getTotalElements(), proxies.getTotalElements());
+        Assertions.assertEquals(rows.getContent().stream().map(MemberProjection::getUserName).sorted().toList(),
+                proxies.getContent().stream().map(MemberProjection::getUserName).sorted().toList());
+        MemberProjection m1 = rows.getContent().stream().filter(m -> m.getUserName().equals("m1")).findFirst().get();
+        Assertions.assertEquals(m1.getTeamName(), "teamA");
+    }
+
+    @Test
+    void findKeysetByAge() {
+        // given
+        memberRepository.save(new Member("AA1", 200));
+        memberRepository.save(new Member("AA2", 200));
+        memberRepository.save(new Member("AA3", 200));
+        memberRepository.save(new Member("AA4", 200));
+        memberRepository.save(new Member("AA5", 200));
+
+        // when
+        CursorPage<Member> first = memberRepository.findKeysetByAge(200, null, 3);
+        CursorPage<Member> second = memberRepository.findKeysetByAge(200, first.getNextCursor(), 3);
+
+        // then
+        assertEquals(first.getContent().size(), 3);
+        assertEquals(first.isHasNext(), true);
+        assertEquals(first.getContent().get(0).getUsername(), "AA1");
+        assertEquals(second.getContent().size(), 2);
+        assertEquals(second.isHasNext(), false);
+        assertEquals(second.getNextCursor(), null);
+        assertEquals(second.getContent().get(0).getUsername(), "AA4");
+    }
+
+    @Test
+    void findKeysetMaxSize() {
+        // given
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            members.add(new Member("max" + i, 300));
+        }
+        memberRepository.saveAll(members);
+
+        // when
+        CursorPage<Member> page = memberRepository.findKeysetByAge(300, null, 1000);
+
+        // then - member.keyset.max-size(100) 로 제한
+        assertEquals(page.getContent().size(), 100);
+        assertEquals(page.isHasNext(), true);
+    }
+
+    @Test
+    void streamMemberDto() {
+        // given
+        Team teamA = new Team("teamA");
+        em.persist(teamA);
+        em.persist(new Member("stream1", 10, teamA));
+        em.persist(new Member("stream2", 20));
+
+        em.flush();
+        em.clear();
+
+        // when
+        List<MemberDto> result;
+        try (Stream<MemberDto> stream = memberRepository.streamMemberDto()) {
+            result = stream.filter(dto -> dto.getUsername() != null && dto.getUsername().startsWith("stream"))
+                    .toList();
+        }
+
+        // then
+        assertEquals(result.size(), 2); // 팀이 없는 회원도 포함 (left join)
+        assertEquals(em.unwrap(Session.class).getStatistics().getEntityCount(), 0); // 영속성 컨텍스트에 엔티티가 쌓이지 않음
+    }
+
+    @Test
+    void specQueryPlanCache() {
+        // given
+        Team teamA = new Team("teamA");
+        em.persist(teamA);
+        em.persist(new Member("m1", 0, teamA));
+        em.flush();
+        em.clear();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        // when - 구조가 같고 값만 다른 Specification
+        memberRepository.findAll(MemberSpec.username("m1").and(MemberSpec.teamName("teamA")));
+        long hitCount = statistics.getQueryPlanCacheHitCount();
+        List<Member> result = memberRepository.findAll(MemberSpec.username("m2").and(MemberSpec.teamName("teamB")));
+
+        // then
+        assertEquals(result.size(), 0);
+        assertEquals(statistics.getQueryPlanCacheHitCount() > hitCount, true);
+    }
+
+    @Test
+    void countCachedByAge() {
+        // given
+        memberRepository.save(new Member("count1", 300));
+
+        // when
+        long first = memberRepository.countCachedByAge(300);
+        memberRepository.save(new Member("count2", 300));
+        long second = memberRepository.countCachedByAge(300); // insert 후에는 캐시된 count 를 쓰지 않는다.
+
         // then
+        assertEquals(first, 1L);
+        assertEquals(second, 2L);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package fivedragons.data.jpa.service;
+
+import fivedragons.data.jpa.dto.MemberDto;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.Team;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class MemberAsyncServiceTest {
+
+    @Autowired MemberAsyncService memberAsyncService;
+
+    @Test
+    void parallelQueries() throws Exception {
+        // when
+        CompletableFuture<Page<Member>> byAge = memberAsyncService.findByAge(10, PageRequest.of(0, 10));
+        CompletableFuture<List<MemberDto>> dto = memberAsyncService.findMemberDto();
+        CompletableFuture<List<Team>> teams = memberAsyncService.findTeams();
+
+        CompletableFuture.allOf(byAge, dto, teams).get(3, TimeUnit.SECONDS);
+
+        // then - MemberController.init() 에서 age 10 인 회원 1명을 넣는다.
+        assertEquals(byAge.get().getTotalElements() >= 1, true);
+    }
+}
@@ -0,0 +1,91 @@
+package fivedragons.data.jpa.service;
+
+import fivedragons.data.jpa.cache.MemberDtoCache;
+import fivedragons.data.jpa.dto.BulkProgress;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.repository.MemberRepository;
+import fivedragons.data.jpa.repository.MemberSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 청크마다 별도 트랜잭션으로 커밋하므로 테스트 롤백(@Transactional)을 쓰지 않는다.
+ */
+@SpringBootTest
+class MemberBulkServiceTest {
+
+    @Autowired MemberBulkService memberBulkService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired MemberDtoCache memberDtoCache;
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAll(memberRepository.findAll(MemberSpec.username("bulkTarget")));
+        memberRepository.deleteAll(memberRepository.findAll(MemberSpec.username("bulkBystander")));
+    }
+
+    @Test
+    void increaseAgeInChunks() {
+        // given
+        memberRepository.save(new Member("bulkTarget", 500));
+        memberRepository.save(new Member("bulkTarget", 500));
+        memberRepository.save(new Member("bulkTarget", 500));
+        List<BulkProgress> progresses = new ArrayList<>();
+
+        // when
+        long affected = memberBulkService.increaseAge(MemberSpec.username("bulkTarget"), 1, 2, progresses::add);
+
+        // then - 대상 3건 / 청크 2 = 청크 2개 (id 범위와 상관없이)
+        assertEquals(affected, 3L);
+        assertEquals(progresses.size(), 2);
+        assertEquals(progresses.get(progresses.size() - 1).getAffected(), 3L);
+        memberRepository.findAll(MemberSpec.username("bulkTarget"))
+                .forEach(member -> assertEquals(member.getAge(), 501));
+    }
+
+    @Test
+    void deleteInChunks() {
+        // given
+        memberRepository.save(new Member("bulkTarget", 500));
+        memberRepository.save(new Member("bulkTarget", 500));
+
+        // when
+        long affected = memberBulkService.delete(MemberSpec.username("bulkTarget"), 100, null);
+
+        // then
+        assertEquals(affected, 2L);
+        assertEquals(memberRepository.findAll(MemberSpec.username("bulkTarget")).size(), 0);
+    }
+
+    @Test
+    void evictOnlyChangedMembers() {
+        // given
+        Member target = memberRepository.save(new Member("bulkTarget", 500));
+        Member bystander = memberRepository.save(new Member("bulkBystander", 500));
+        AtomicInteger loads = new AtomicInteger();
+        Function<Long, Optional<Member>> loader = id -> {
+            loads.incrementAndGet();
+            return memberRepository.findById(id);
+        };
+        memberDtoCache.get(target.getId(), loader);
+        memberDtoCache.get(bystander.getId(), loader);
+
+        // when
+        memberBulkService.increaseAge(MemberSpec.username("bulkTarget"), 1, 100, null);
+        memberDtoCache.get(target.getId(), loader);
+        memberDtoCache.get(bystander.getId(), loader);
+
+        // then - 바뀐 회원만 다시 조회
+        assertEquals(loads.get(), 3);
+    }
+}
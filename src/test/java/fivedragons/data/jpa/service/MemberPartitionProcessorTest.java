@@ -0,0 +1,89 @@
+package fivedragons.data.jpa.service;
+
+import fivedragons.data.jpa.dto.PartitionProgress;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.repository.MemberRepository;
+import fivedragons.data.jpa.repository.MemberSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 청크마다 별도 트랜잭션으로 커밋하므로 테스트 롤백(@Transactional)을 쓰지 않는다.
+ */
+@SpringBootTest
+class MemberPartitionProcessorTest {
+
+    private static final String USERNAME = "partitionTarget";
+
+    @Autowired MemberPartitionProcessor memberPartitionProcessor;
+    @Autowired MemberService memberService;
+    @Autowired MemberRepository memberRepository;
+
+    @AfterEach
+    void cleanUp() {
+        memberPartitionProcessor.reset("partition-test");
+        memberPartitionProcessor.reset("partition-restart-test");
+        memberRepository.deleteAll(memberRepository.findAll(MemberSpec.username(USERNAME)));
+    }
+
+    @Test
+    void processInPartitions() {
+        // given
+        memberService.saveAllBatched(members(20), 100);
+        List<PartitionProgress> progresses = new CopyOnWriteArrayList<>();
+
+        // when
+        long processed = memberPartitionProcessor.process("partition-test", MemberSpec.username(USERNAME), 4, 3,
+                members -> members.forEach(member -> member.setAge(member.getAge() + 1)),
+                progresses::add);
+
+        // then
+        assertEquals(processed, 20L);
+        assertEquals(progresses.stream().filter(PartitionProgress::isCompleted).count(), 4L);
+        memberRepository.findAll(MemberSpec.username(USERNAME))
+                .forEach(member -> assertEquals(member.getAge(), 501));
+
+        // 완료된 job 은 다시 처리하지 않는다.
+        assertEquals(memberPartitionProcessor.process("partition-test", MemberSpec.username(USERNAME), 4, 3,
+                members -> fail("completed job"), null), 0L);
+    }
+
+    @Test
+    void restartFromCheckpoint() {
+        // given - 한 청크에서 한 번 실패
+        memberService.saveAllBatched(members(20), 100);
+        Long failId = memberRepository.findAll(MemberSpec.username(USERNAME)).get(10).getId();
+        AtomicBoolean failed = new AtomicBoolean();
+
+        // when
+        assertThrows(IllegalStateException.class, () ->
+                memberPartitionProcessor.process("partition-restart-test", MemberSpec.username(USERNAME), 2, 3,
+                        members -> members.forEach(member -> {
+                            if (member.getId().equals(failId) && failed.compareAndSet(false, true)) {
+                                throw new IllegalStateException("fail once");
+                            }
+                            member.setAge(member.getAge() + 1);
+                        }), null));
+        memberPartitionProcessor.process("partition-restart-test", MemberSpec.username(USERNAME), 2, 3,
+                members -> members.forEach(member -> member.setAge(member.getAge() + 1)), null);
+
+        // then - 실패한 청크는 롤백되고 재실행 때 체크포인트 다음부터 처리되어, 모든 회원이 정확히 한 번 처리된다.
+        memberRepository.findAll(MemberSpec.username(USERNAME))
+                .forEach(member -> assertEquals(member.getAge(), 501));
+    }
+
+    private List<Member> members(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Member(USERNAME, 500))
+                .toList();
+    }
+}
@@ -0,0 +1,93 @@
+package fivedragons.data.jpa.service;
+
+import fivedragons.data.jpa.dto.CursorPage;
+import fivedragons.data.jpa.dto.MemberDto;
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.repository.MemberRepository;
+import fivedragons.data.jpa.repository.MemberSpec;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 다음 창은 다른 스레드(다른 트랜잭션)에서 미리 읽으므로 테스트 데이터를 커밋한다. (@Transactional 사용 안함)
+ */
+@SpringBootTest
+class MemberScrollServiceTest {
+
+    private static final int AGE = 9_000; // 다른 테스트 데이터와 겹치지 않는 나이
+
+    @Autowired MemberScrollService memberScrollService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired MeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            members.add(new Member("scroll" + i, AGE + i));
+        }
+        memberRepository.saveAll(members);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAll(memberRepository.findAll(MemberSpec.ageGoe(AGE)));
+    }
+
+    @Test
+    void scrollWithPrefetch() {
+        // given
+        double hits = prefetch("hit");
+
+        // when
+        CursorPage<MemberDto> first = memberScrollService.scroll(AGE, null, 3);
+        CursorPage<MemberDto> second = memberScrollService.scroll(AGE, first.getNextCursor(), 3);
+        CursorPage<MemberDto> third = memberScrollService.scroll(AGE, second.getNextCursor(), 3);
+
+        // then - 두 번째, 세 번째 창은 미리 읽어 둔 것
+        assertEquals(usernames(first), List.of("scroll0", "scroll1", "scroll2"));
+        assertEquals(usernames(second), List.of("scroll3", "scroll4", "scroll5"));
+        assertEquals(usernames(third), List.of("scroll6"));
+        assertTrue(first.isHasNext());
+        assertFalse(third.isHasNext());
+        assertNull(third.getNextCursor());
+        assertEquals(prefetch("hit") - hits, 2.0);
+    }
+
+    @Test
+    void invalidateOnMemberCreated() {
+        // given
+        CursorPage<MemberDto> first = memberScrollService.scroll(AGE, null, 3);
+        double misses = prefetch("miss");
+
+        // when - 미리 읽은 창은 버리고 커서 위치에서 다시 조회
+        memberRepository.save(new Member("scroll2a", AGE));
+        CursorPage<MemberDto> second = memberScrollService.scroll(AGE, first.getNextCursor(), 3);
+
+        // then
+        assertEquals(usernames(second), List.of("scroll2a", "scroll3", "scroll4"));
+        assertEquals(prefetch("miss") - misses, 1.0);
+    }
+
+    @Test
+    void invalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> memberScrollService.scroll(AGE, "no-separator", 3));
+    }
+
+    private double prefetch(String result) {
+        return registry.counter("member.scroll.prefetch", "result", result).count();
+    }
+
+    private static List<String> usernames(CursorPage<MemberDto> page) {
+        return page.getContent().stream().map(MemberDto::getUsername).toList();
+    }
+}
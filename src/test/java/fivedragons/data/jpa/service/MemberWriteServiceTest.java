@@ -0,0 +1,106 @@
+package fivedragons.data.jpa.service;
+
+import fivedragons.data.jpa.entity.Member;
+import fivedragons.data.jpa.entity.Team;
+import fivedragons.data.jpa.lock.LockStrategy;
+import fivedragons.data.jpa.repository.MemberRepository;
+import fivedragons.data.jpa.repository.TeamRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "member.lock.retry.max-attempts=50")
+class MemberWriteServiceTest {
+
+    private static final int THREADS = 4;
+    private static final int UPDATES_PER_THREAD = 10;
+
+    @Autowired MemberWriteService memberWriteService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired TeamRepository teamRepository;
+
+    @Test
+    void increaseAgeOptimistic() throws Exception {
+        increaseAgeConcurrently(LockStrategy.OPTIMISTIC);
+    }
+
+    @Test
+    void increaseAgePessimistic() throws Exception {
+        increaseAgeConcurrently(LockStrategy.PESSIMISTIC);
+    }
+
+    @Test
+    void versionIncreases() {
+        // given
+        Team teamA = teamRepository.save(new Team("versionA"));
+        Team teamB = teamRepository.save(new Team("versionB"));
+        Member member = memberRepository.save(new Member("version", 10, teamA));
+        Long version = memberRepository.findById(member.getId()).get().getVersion();
+
+        // when
+        memberWriteService.changeTeam(member.getId(), teamB.getId());
+        memberWriteService.renameTeam(teamB.getId(), "versionC");
+
+        // then
+        Member findMember = memberRepository.findById(member.getId()).get();
+        assertEquals(findMember.getVersion(), Long.valueOf(version + 1));
+        assertEquals(teamRepository.findById(teamB.getId()).get().getName(), "versionC");
+
+        memberRepository.delete(findMember);
+        teamRepository.deleteAll(List.of(teamA, teamRepository.findById(teamB.getId()).get()));
+    }
+
+    @Test
+    void changeTeamKeepsTeamVersion() {
+        // given
+        Team teamA = teamRepository.save(new Team("keepA"));
+        Team teamB = teamRepository.save(new Team("keepB"));
+        Member member = memberRepository.save(new Member("keep", 10, teamA));
+        Long versionA = teamRepository.findById(teamA.getId()).get().getVersion();
+        Long versionB = teamRepository.findById(teamB.getId()).get().getVersion();
+
+        // when - team.getMembers() 에 추가해도 연관관계 주인이 아니므로 팀 version 은 그대로
+        memberWriteService.changeTeam(member.getId(), teamB.getId());
+
+        // then
+        assertEquals(teamRepository.findById(teamA.getId()).get().getVersion(), versionA);
+        assertEquals(teamRepository.findById(teamB.getId()).get().getVersion(), versionB);
+
+        memberRepository.deleteById(member.getId());
+        teamRepository.deleteAll(List.of(teamRepository.findById(teamA.getId()).get(),
+                teamRepository.findById(teamB.getId()).get()));
+    }
+
+    private void increaseAgeConcurrently(LockStrategy strategy) throws Exception {
+        // given
+        Member member = memberRepository.save(new Member("hot-" + strategy, 0));
+
+        // when - 같은 row 를 THREADS 개 스레드가 동시에 수정
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                    memberWriteService.increaseAge(member.getId(), 1, strategy);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then - 충돌은 재시도되므로 갱신이 하나도 유실되지 않는다.
+        Member findMember = memberRepository.findById(member.getId()).get();
+        assertEquals(findMember.getAge(), THREADS * UPDATES_PER_THREAD);
+        memberRepository.delete(findMember);
+    }
+}
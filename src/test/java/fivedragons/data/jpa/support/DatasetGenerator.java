@@ -0,0 +1,138 @@
+package fivedragons.data.jpa.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Team / Member / Item 대량 데이터 생성기
+ * JPA 를 거치지 않고 multi-row insert(values (...), (...), ...) + JDBC batch 로 바로 넣는다.
+ * id 는 시퀀스에서 새 블록을 받아서 시작하고, 넣은 뒤에는 시퀀스를 생성한 범위 뒤로 옮겨서 JPA 저장과 id 가 겹치지 않게 한다.
+ */
+public class DatasetGenerator {
+
+    private static final int STATEMENTS_PER_BATCH = 20;
+    private static final int SEQUENCE_ALLOCATION_SIZE = 100; // Team, Member @SequenceGenerator allocationSize
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DatasetGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public static String username(int rank) {
+        return "user" + rank;
+    }
+
+    public static String itemId(long index) {
+        return String.format("ITEM-%010d", index);
+    }
+
+    public long generate(DatasetSpec spec) {
+        long start = System.nanoTime();
+        Random random = new Random(spec.getSeed());
+        ZipfSampler usernames = new ZipfSampler(spec.getDistinctUsernames(), spec.getUsernameSkew());
+
+        long teamStart = nextId("team_seq", "team", "team_id");
+        insert("team", new String[]{"team_id", "name", "version"}, spec.getRowsPerStatement(), spec.getTeams(),
+                i -> new Object[]{teamStart + i, "team" + i, 0L});
+        restartSequence("team_seq", teamStart + spec.getTeams());
+
+        long memberStart = nextId("member_seq", "member", "member_id");
+        insert("member", new String[]{"member_id", "username", "age", "team_id", "version"}, spec.getRowsPerStatement(), spec.getTotalMembers(),
+                i -> new Object[]{
+                        memberStart + i,
+                        username(usernames.next(random)),
+                        (int) (spec.getMaxAge() * Math.pow(random.nextDouble(), spec.getAgeSkew())),
+                        teamStart + i / spec.getMembersPerTeam(),
+                        0L
+                });
+        restartSequence("member_seq", memberStart + spec.getTotalMembers());
+
+        insert("item", new String[]{"id"}, spec.getRowsPerStatement(), spec.getItems(),
+                i -> new Object[]{itemId(i)});
+
+        return System.nanoTime() - start;
+    }
+
+    private void insert(String table, String[] columns, int rowsPerStatement, long rows, RowFactory rowFactory) {
+        List<Object[]> batch = new ArrayList<>(STATEMENTS_PER_BATCH);
+        List<Object> params = new ArrayList<>(rowsPerStatement * columns.length);
+        int rowsInStatement = 0;
+
+        for (long i = 0; i < rows; i++) {
+            params.addAll(Arrays.asList(rowFactory.create(i)));
+            if (++rowsInStatement == rowsPerStatement) {
+                batch.add(params.toArray());
+                params.clear();
+                rowsInStatement = 0;
+                if (batch.size() == STATEMENTS_PER_BATCH) {
+                    jdbcTemplate.batchUpdate(sql(table, columns, rowsPerStatement), batch);
+                    batch.clear();
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql(table, columns, rowsPerStatement), batch);
+        }
+        if (rowsInStatement > 0) {
+            jdbcTemplate.update(sql(table, columns, rowsInStatement), params.toArray());
+        }
+    }
+
+    private static String sql(String table, String[] columns, int rows) {
+        String row = "(" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+        return "insert into " + table + " (" + String.join(", ", columns) + ") values "
+                + String.join(", ", Collections.nCopies(rows, row));
+    }
+
+    /**
+     * max(id) + 1 은 Hibernate 가 이미 받아 두고 아직 쓰지 않은 블록(롤백된 트랜잭션 등)과 겹칠 수 있으므로
+     * 시퀀스에서 새 값을 받아서 시작한다. 이미 받아 간 블록은 모두 이 값보다 작다.
+     */
+    private long nextId(String sequence, String table, String idColumn) {
+        Long next = jdbcTemplate.queryForObject("select next value for " + sequence, Long.class);
+        Long max = jdbcTemplate.queryForObject("select max(" + idColumn + ") from " + table, Long.class);
+        return max == null ? next : Math.max(next, max + 1);
+    }
+
+    private void restartSequence(String sequence, long end) {
+        // pooled-lo 면 다음 블록이 end 부터, pooled 면 (값 - allocationSize, 값] 이므로 블록 하나만큼 더 띄운다.
+        jdbcTemplate.execute("alter sequence " + sequence + " restart with " + (end + SEQUENCE_ALLOCATION_SIZE));
+    }
+
+    @FunctionalInterface
+    private interface RowFactory {
+        Object[] create(long index);
+    }
+
+    /**
+     * 1 ~ n 순위를 Zipf 분포로 뽑는다. (순위 1 이 가장 자주 나옴)
+     */
+    private static class ZipfSampler {
+
+        private final double[] cdf;
+
+        ZipfSampler(int n, double skew) {
+            cdf = new double[n];
+            double sum = 0;
+            for (int rank = 1; rank <= n; rank++) {
+                sum += 1.0 / Math.pow(rank, skew);
+                cdf[rank - 1] = sum;
+            }
+            for (int i = 0; i < n; i++) {
+                cdf[i] /= sum;
+            }
+        }
+
+        int next(Random random) {
+            int index = Arrays.binarySearch(cdf, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cdf.length - 1) + 1;
+        }
+    }
+}
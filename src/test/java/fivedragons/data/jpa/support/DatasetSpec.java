@@ -0,0 +1,110 @@
+package fivedragons.data.jpa.support;
+
+/**
+ * 대량 데이터 생성 조건
+ * username 은 Zipf 분포(usernameSkew 가 클수록 소수 이름에 몰림), age 는 어린 나이 쪽으로 치우친 분포로 만든다.
+ */
+public class DatasetSpec {
+
+    private int teams = 100;
+    private int membersPerTeam = 100;
+    private int distinctUsernames = 10_000;
+    private double usernameSkew = 1.0;
+    private int maxAge = 100;
+    private double ageSkew = 2.0;
+    private int items = 0;
+    private int rowsPerStatement = 500;
+    private long seed = 42L;
+
+    public static DatasetSpec members(int totalMembers) {
+        DatasetSpec spec = new DatasetSpec();
+        spec.teams = Math.max(1, totalMembers / 1_000);
+        spec.membersPerTeam = totalMembers / spec.teams;
+        return spec;
+    }
+
+    public DatasetSpec teams(int teams) {
+        this.teams = teams;
+        return this;
+    }
+
+    public DatasetSpec membersPerTeam(int membersPerTeam) {
+        this.membersPerTeam = membersPerTeam;
+        return this;
+    }
+
+    public DatasetSpec distinctUsernames(int distinctUsernames) {
+        this.distinctUsernames = distinctUsernames;
+        return this;
+    }
+
+    public DatasetSpec usernameSkew(double usernameSkew) {
+        this.usernameSkew = usernameSkew;
+        return this;
+    }
+
+    public DatasetSpec maxAge(int maxAge) {
+        this.maxAge = maxAge;
+        return this;
+    }
+
+    public DatasetSpec ageSkew(double ageSkew) {
+        this.ageSkew = ageSkew;
+        return this;
+    }
+
+    public DatasetSpec items(int items) {
+        this.items = items;
+        return this;
+    }
+
+    public DatasetSpec rowsPerStatement(int rowsPerStatement) {
+        this.rowsPerStatement = rowsPerStatement;
+        return this;
+    }
+
+    public DatasetSpec seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public int getTeams() {
+        return teams;
+    }
+
+    public int getMembersPerTeam() {
+        return membersPerTeam;
+    }
+
+    public long getTotalMembers() {
+        return (long) teams * membersPerTeam;
+    }
+
+    public int getDistinctUsernames() {
+        return distinctUsernames;
+    }
+
+    public double getUsernameSkew() {
+        return usernameSkew;
+    }
+
+    public int getMaxAge() {
+        return maxAge;
+    }
+
+    public double getAgeSkew() {
+        return ageSkew;
+    }
+
+    public int getItems() {
+        return items;
+    }
+
+    public int getRowsPerStatement() {
+        return rowsPerStatement;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}